@@ -1,9 +1,12 @@
 package org.PanicS_Knight.freecam_legit.client;
 
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import org.PanicS_Knight.freecam_legit.client.camera.FreecamHandler;
+import org.PanicS_Knight.freecam_legit.client.camera.SectionReadiness;
 import org.PanicS_Knight.freecam_legit.client.input.KeyBindings;
 import org.PanicS_Knight.freecam_legit.client.render.FreecamHud;
 import org.PanicS_Knight.freecam_legit.config.ModConfig;
@@ -48,6 +51,21 @@ public class FreecamClient implements ClientModInitializer {
         });
         LOGGER.info("Tick event handlers registered");
 
+        // Register chunk event handlers for terrain readiness tracking
+        SectionReadiness.register();
+        LOGGER.info("Chunk event handlers registered");
+
+        // Finish camera path recordings when leaving the world or closing the game
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            FreecamHandler.stopReplay();
+            FreecamHandler.stopRecording();
+        });
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> {
+            FreecamHandler.stopReplay();
+            FreecamHandler.stopRecording();
+        });
+        LOGGER.info("Session event handlers registered");
+
         // Register HUD renderer
         @SuppressWarnings("deprecation")
         var hudCallback = HudRenderCallback.EVENT;
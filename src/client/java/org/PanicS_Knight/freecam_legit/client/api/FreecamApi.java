@@ -0,0 +1,220 @@
+package org.PanicS_Knight.freecam_legit.client.api;
+
+import net.minecraft.client.MinecraftClient;
+import org.PanicS_Knight.freecam_legit.client.camera.FreecamEntity;
+import org.PanicS_Knight.freecam_legit.client.camera.FreecamHandler;
+import org.PanicS_Knight.freecam_legit.client.camera.SectionReadiness;
+
+import java.nio.file.Path;
+
+/**
+ * Stable entry point for other mods integrating with freecam.
+ * Pose accessors fill caller-supplied buffers so polling does not allocate;
+ * prefer registering a {@link FreecamListener} over polling every frame.
+ * All methods must be called on the client thread.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class FreecamApi {
+
+    private FreecamApi() {
+        throw new UnsupportedOperationException("API class cannot be instantiated");
+    }
+
+    /**
+     * Checks if freecam is currently enabled.
+     *
+     * @return true if freecam is active
+     */
+    public static boolean isEnabled() {
+        return FreecamHandler.isEnabled() && FreecamHandler.getCameraEntity() != null;
+    }
+
+    /**
+     * Enables or disables freecam.
+     * Does nothing if the requested state is already active or no world is loaded.
+     *
+     * @param enabled desired freecam state
+     */
+    public static void setEnabled(boolean enabled) {
+        FreecamHandler.setEnabled(MinecraftClient.getInstance(), enabled);
+    }
+
+    /**
+     * Copies the current (tick) camera position into the buffer.
+     *
+     * @param out buffer of at least 3 elements, receives x, y, z
+     * @return true if freecam is active and the buffer was filled
+     */
+    public static boolean getPosition(double[] out) {
+        FreecamEntity camera = FreecamHandler.getCameraEntity();
+        if (camera == null) {
+            return false;
+        }
+
+        out[0] = camera.getX();
+        out[1] = camera.getY();
+        out[2] = camera.getZ();
+        return true;
+    }
+
+    /**
+     * Copies the interpolated camera position into the buffer.
+     *
+     * @param tickDelta partial tick time (0.0 to 1.0)
+     * @param out buffer of at least 3 elements, receives x, y, z
+     * @return true if freecam is active and the buffer was filled
+     */
+    public static boolean getInterpolatedPosition(float tickDelta, double[] out) {
+        FreecamEntity camera = FreecamHandler.getCameraEntity();
+        if (camera == null) {
+            return false;
+        }
+
+        camera.getPos(tickDelta, out);
+        return true;
+    }
+
+    /**
+     * Copies the camera rotation into the buffer.
+     *
+     * @param out buffer of at least 2 elements, receives yaw, pitch (degrees)
+     * @return true if freecam is active and the buffer was filled
+     */
+    public static boolean getRotation(float[] out) {
+        FreecamEntity camera = FreecamHandler.getCameraEntity();
+        if (camera == null) {
+            return false;
+        }
+
+        out[0] = camera.getYaw();
+        out[1] = camera.getPitch();
+        return true;
+    }
+
+    /**
+     * Requests a new camera pose.
+     * The camera moves towards the target with block collisions and stays
+     * within the configured max distance, so it may stop short of the target.
+     *
+     * @param x target X position
+     * @param y target Y position (feet, without eye offset)
+     * @param z target Z position
+     * @param yaw target yaw in degrees
+     * @param pitch target pitch in degrees, clamped to the valid range
+     * @return true if freecam is active and the request was applied
+     */
+    public static boolean requestPose(double x, double y, double z, float yaw, float pitch) {
+        FreecamEntity camera = FreecamHandler.getCameraEntity();
+        if (camera == null) {
+            return false;
+        }
+
+        camera.requestPose(x, y, z, yaw, pitch);
+        return true;
+    }
+
+    /**
+     * Starts replaying a camera path file recorded with {@link #startRecording(Path)}.
+     * Freecam must be enabled; input is ignored while the replay runs. The camera still
+     * collides with blocks and stays within the max distance of the player.
+     *
+     * @param path camera path file
+     * @return true if the replay started
+     */
+    public static boolean startReplay(Path path) {
+        return FreecamHandler.startReplay(path);
+    }
+
+    /**
+     * Continues the running replay from the given recording tick.
+     *
+     * @param tick tick to seek to
+     * @return true if a replay is running
+     */
+    public static boolean seekReplay(int tick) {
+        return FreecamHandler.seekReplay(tick);
+    }
+
+    /**
+     * Stops the running replay, leaving the camera at its last pose.
+     */
+    public static void stopReplay() {
+        FreecamHandler.stopReplay();
+    }
+
+    /**
+     * Checks if a camera path replay is running.
+     *
+     * @return true if the camera is driven by a replay
+     */
+    public static boolean isReplaying() {
+        return FreecamHandler.isReplaying();
+    }
+
+    /**
+     * Starts recording the camera pose every tick into a camera path file.
+     *
+     * @param path output file, replaced if it exists
+     * @return true if recording started
+     */
+    public static boolean startRecording(Path path) {
+        return FreecamHandler.startRecording(path);
+    }
+
+    /**
+     * Finishes the running recording.
+     */
+    public static void stopRecording() {
+        FreecamHandler.stopRecording();
+    }
+
+    /**
+     * Gets the share of loaded chunk sections around the player that are meshed.
+     * The camera slows and stops at sections that are not ready.
+     *
+     * @return ratio from 0.0 to 1.0, or 1.0 if freecam is inactive
+     */
+    public static float getTerrainReadiness() {
+        return SectionReadiness.getReadyRatio();
+    }
+
+    /**
+     * Gets the number of loaded and meshed chunk sections around the player.
+     *
+     * @return ready section count, or 0 if freecam is inactive
+     */
+    public static int getReadySectionCount() {
+        return SectionReadiness.getReadyCount();
+    }
+
+    /**
+     * Gets the number of loaded chunk sections around the player.
+     *
+     * @return loaded section count, or 0 if freecam is inactive
+     */
+    public static int getLoadedSectionCount() {
+        return SectionReadiness.getLoadedCount();
+    }
+
+    /**
+     * Registers a listener for freecam events.
+     * A listener that throws is logged and skipped; freecam and other listeners carry on.
+     *
+     * @param listener listener to add
+     * @throws IllegalArgumentException if the listener is null
+     */
+    public static void addListener(FreecamListener listener) {
+        FreecamHandler.addListener(listener);
+    }
+
+    /**
+     * Unregisters a previously added listener.
+     *
+     * @param listener listener to remove
+     */
+    public static void removeListener(FreecamListener listener) {
+        FreecamHandler.removeListener(listener);
+    }
+}
@@ -0,0 +1,37 @@
+package org.PanicS_Knight.freecam_legit.client.api;
+
+/**
+ * Receives freecam lifecycle and pose events.
+ * All callbacks run on the client thread; every method has an empty default
+ * so integrations only override what they need.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public interface FreecamListener {
+
+    /**
+     * Called after freecam has been enabled and the camera entity created.
+     */
+    default void onEnabled() {
+    }
+
+    /**
+     * Called after freecam has been disabled and the camera entity released.
+     */
+    default void onDisabled() {
+    }
+
+    /**
+     * Called at the end of a client tick when the camera pose has changed.
+     * Values are the non-interpolated tick pose.
+     *
+     * @param x camera X position
+     * @param y camera Y position (feet, without eye offset)
+     * @param z camera Z position
+     * @param yaw camera yaw in degrees
+     * @param pitch camera pitch in degrees
+     */
+    default void onPoseUpdated(double x, double y, double z, float yaw, float pitch) {
+    }
+}
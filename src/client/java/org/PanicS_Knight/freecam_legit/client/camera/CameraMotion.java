@@ -0,0 +1,421 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+/**
+ * Movement state of the freecam camera: position, previous position and velocity.
+ * Implements the per-tick movement phases on primitives so ticking and interpolation
+ * never allocate. {@link FreecamEntity} gathers input and drives the phases.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+final class CameraMotion {
+    // Camera dimensions (similar to player)
+    static final double CAMERA_WIDTH = 0.6;
+    static final double CAMERA_HEIGHT = 1.8;
+
+    // Movement constants
+    private static final float ACCELERATION_FACTOR = 0.5f;
+    private static final double MIN_VELOCITY_THRESHOLD = 0.00001;
+
+    // Terrain readiness constants
+    private static final double READINESS_LOOKAHEAD_TICKS = 8.0;
+    private static final double READINESS_SLOWDOWN = 0.5;
+    private static final double SECTION_SIZE = 16.0;
+
+    /**
+     * Terrain readiness query, see {@link SectionReadiness#isReady(double, double, double)}.
+     */
+    @FunctionalInterface
+    interface Readiness {
+
+        /**
+         * Checks if the camera may enter the section containing a point.
+         *
+         * @param x world X coordinate
+         * @param y world Y coordinate
+         * @param z world Z coordinate
+         * @return true if the section is ready
+         */
+        boolean isReady(double x, double y, double z);
+    }
+
+    private final CollisionWorld world;
+    private final Readiness readiness;
+
+    // Position and previous position for interpolation (x, y, z)
+    private final double[] position = new double[3];
+    private final double[] prevPosition = new double[3];
+
+    // Current velocity vector
+    private double velocityX;
+    private double velocityY;
+    private double velocityZ;
+
+    // Whether the last velocity update had any movement input
+    private boolean hasInput;
+
+    /**
+     * Creates movement state at rest at the given position.
+     *
+     * @param world collision query
+     * @param readiness terrain readiness query
+     * @param x start X position
+     * @param y start Y position
+     * @param z start Z position
+     */
+    CameraMotion(CollisionWorld world, Readiness readiness, double x, double y, double z) {
+        this.world = world;
+        this.readiness = readiness;
+        setPosition(x, y, z);
+        storePrevious();
+    }
+
+    /**
+     * Stores the current position as the previous one for interpolation.
+     */
+    void storePrevious() {
+        prevPosition[0] = position[0];
+        prevPosition[1] = position[1];
+        prevPosition[2] = position[2];
+    }
+
+    /**
+     * Runs one movement tick: stores the previous position, accelerates towards the input velocity,
+     * then applies the readiness constraint, block collisions and the max distance sphere, in that order.
+     *
+     * @param forward forward input (-1 to 1)
+     * @param strafe strafe input (-1 to 1)
+     * @param vertical vertical input (-1 to 1)
+     * @param speed movement speed in blocks per tick
+     * @param yaw camera yaw in degrees
+     * @param maxStepLength longest collision sub-step, see {@link FidelityLevel#getMaxCollisionStep()}
+     * @param anchorX sphere center X
+     * @param anchorY sphere center Y
+     * @param anchorZ sphere center Z
+     * @param maxDistance sphere radius
+     */
+    void tick(float forward, float strafe, float vertical, float speed, float yaw, double maxStepLength,
+              double anchorX, double anchorY, double anchorZ, double maxDistance) {
+        storePrevious();
+        updateVelocity(forward, strafe, vertical, speed, yaw);
+
+        // 1. Keep out of sections that are not loaded or meshed yet
+        applyReadinessConstraint();
+
+        // 2. Apply movement with standard block collisions
+        applyMovement(maxStepLength);
+
+        // 3. Apply "Sphere Collision" (Max distance constraint)
+        applyDistanceConstraint(anchorX, anchorY, anchorZ, maxDistance);
+    }
+
+    /**
+     * Moves smoothly towards the velocity requested by input.
+     * Uses "Creative-style" flight logic (ignores pitch for WASD movement).
+     *
+     * @param forward forward input (-1 to 1)
+     * @param strafe strafe input (-1 to 1)
+     * @param vertical vertical input (-1 to 1)
+     * @param speed movement speed in blocks per tick
+     * @param yaw camera yaw in degrees
+     */
+    private void updateVelocity(float forward, float strafe, float vertical, float speed, float yaw) {
+        double targetX = 0;
+        double targetY = 0;
+        double targetZ = 0;
+
+        // If no input, target zero velocity (smooth stop)
+        this.hasInput = forward != 0 || strafe != 0 || vertical != 0;
+        if (hasInput) {
+            // Normalize diagonal movement to prevent faster movement
+            float horizontalMagnitude = (float) Math.sqrt(forward * forward + strafe * strafe);
+            if (horizontalMagnitude > 0) {
+                forward /= horizontalMagnitude;
+                strafe /= horizontalMagnitude;
+            }
+
+            // Forward is (-sin, 0, cos), right is (cos, 0, sin)
+            float yawRad = (float) Math.toRadians(yaw);
+            double sin = Math.sin(yawRad);
+            double cos = Math.cos(yawRad);
+
+            targetX = (-sin * forward + cos * strafe) * speed;
+            targetZ = (cos * forward + sin * strafe) * speed;
+
+            // Vertical component (pure up/down, not affected by pitch)
+            targetY = vertical * speed;
+        }
+
+        // Smoothly accelerate/decelerate towards target velocity
+        velocityX += (targetX - velocityX) * ACCELERATION_FACTOR;
+        velocityY += (targetY - velocityY) * ACCELERATION_FACTOR;
+        velocityZ += (targetZ - velocityZ) * ACCELERATION_FACTOR;
+    }
+
+    /**
+     * Slows and stops the camera at the edge of terrain that is not ready to render.
+     * Velocity is halved when a not-ready section lies ahead, and any axis that would
+     * cross into a not-ready section this tick is cancelled so the camera slides along the edge.
+     * Inside a not-ready section (e.g. one that unloaded around the camera) only axes heading
+     * into a ready neighbouring section may move, so the camera can leave but not go deeper.
+     */
+    private void applyReadinessConstraint() {
+        if (isSlow()) {
+            return;
+        }
+
+        double x = position[0];
+        double y = position[1] + CAMERA_HEIGHT / 2;
+        double z = position[2];
+        if (!readiness.isReady(x, y, z)) {
+            if (velocityX != 0 && !readiness.isReady(x + Math.copySign(SECTION_SIZE, velocityX), y, z)) velocityX = 0;
+            if (velocityY != 0 && !readiness.isReady(x, y + Math.copySign(SECTION_SIZE, velocityY), z)) velocityY = 0;
+            if (velocityZ != 0 && !readiness.isReady(x, y, z + Math.copySign(SECTION_SIZE, velocityZ))) velocityZ = 0;
+            return;
+        }
+
+        // Slow down when approaching terrain that is not ready
+        if (!readiness.isReady(
+                x + velocityX * READINESS_LOOKAHEAD_TICKS,
+                y + velocityY * READINESS_LOOKAHEAD_TICKS,
+                z + velocityZ * READINESS_LOOKAHEAD_TICKS)) {
+            velocityX *= READINESS_SLOWDOWN;
+            velocityY *= READINESS_SLOWDOWN;
+            velocityZ *= READINESS_SLOWDOWN;
+        }
+
+        // Stop at the edge: cancel axes that would enter a not-ready section
+        if (!readiness.isReady(x + velocityX, y, z)) velocityX = 0;
+        if (!readiness.isReady(x, y + velocityY, z)) velocityY = 0;
+        if (!readiness.isReady(x, y, z + velocityZ)) velocityZ = 0;
+    }
+
+    /**
+     * Applies current velocity to position with collision detection.
+     * Prevents camera from moving through solid blocks.
+     *
+     * @param maxStepLength longest collision sub-step, see {@link FidelityLevel#getMaxCollisionStep()}
+     */
+    private void applyMovement(double maxStepLength) {
+        if (isSlow()) {
+            return;
+        }
+
+        CollisionHelper.moveWithCollision(position, velocityX, velocityY, velocityZ,
+                CAMERA_WIDTH, CAMERA_HEIGHT, world, maxStepLength);
+    }
+
+    /**
+     * Moves towards a target position with block collisions.
+     * The target is first pulled into the max distance sphere, which bounds the path,
+     * and the whole path is swept with collisions, so long moves cannot tunnel through thin walls.
+     * The sweep stops before the first section that is not ready, other than the one the camera
+     * starts in, so a pose request or replay cannot jump into terrain that is not meshed yet.
+     *
+     * @param x target X position
+     * @param y target Y position
+     * @param z target Z position
+     * @param anchorX sphere center X
+     * @param anchorY sphere center Y
+     * @param anchorZ sphere center Z
+     * @param maxDistance sphere radius
+     * @param maxStepLength longest collision sub-step
+     */
+    void moveTowards(double x, double y, double z, double anchorX, double anchorY, double anchorZ,
+                     double maxDistance, double maxStepLength) {
+        double offsetX = x - anchorX;
+        double offsetY = y - anchorY;
+        double offsetZ = z - anchorZ;
+        double distance = Math.sqrt(offsetX * offsetX + offsetY * offsetY + offsetZ * offsetZ);
+        if (distance > maxDistance) {
+            double scale = maxDistance / distance;
+            x = anchorX + offsetX * scale;
+            y = anchorY + offsetY * scale;
+            z = anchorZ + offsetZ * scale;
+        }
+
+        double motionX = x - position[0];
+        double motionY = y - position[1];
+        double motionZ = z - position[2];
+        double length = Math.sqrt(motionX * motionX + motionY * motionY + motionZ * motionZ);
+        int steps = Math.max(1, (int) Math.ceil(length / maxStepLength));
+        double stepX = motionX / steps;
+        double stepY = motionY / steps;
+        double stepZ = motionZ / steps;
+
+        for (int i = 0; i < steps; i++) {
+            double fromX = position[0];
+            double fromY = position[1];
+            double fromZ = position[2];
+            CollisionHelper.moveWithCollision(position, stepX, stepY, stepZ,
+                    CAMERA_WIDTH, CAMERA_HEIGHT, world, maxStepLength);
+
+            // Fully blocked, remaining sub-steps cannot move either
+            if (position[0] == fromX && position[1] == fromY && position[2] == fromZ) {
+                break;
+            }
+
+            // Stop short of terrain that is not ready
+            if (!canEnter(fromX, fromY, fromZ)) {
+                position[0] = fromX;
+                position[1] = fromY;
+                position[2] = fromZ;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Checks if the camera may stay at its current position after moving from another one.
+     * A not-ready section is only allowed if the camera was already inside it.
+     *
+     * @param fromX previous X position
+     * @param fromY previous Y position
+     * @param fromZ previous Z position
+     * @return true if the current position is allowed
+     */
+    private boolean canEnter(double fromX, double fromY, double fromZ) {
+        double y = position[1] + CAMERA_HEIGHT / 2;
+        if (readiness.isReady(position[0], y, position[2])) {
+            return true;
+        }
+
+        double previousY = fromY + CAMERA_HEIGHT / 2;
+        return sectionOf(position[0]) == sectionOf(fromX)
+                && sectionOf(y) == sectionOf(previousY)
+                && sectionOf(position[2]) == sectionOf(fromZ);
+    }
+
+    /**
+     * Gets the section coordinate containing a world coordinate.
+     *
+     * @param coordinate world coordinate
+     * @return section coordinate
+     */
+    private static int sectionOf(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
+    }
+
+    /**
+     * Limits the camera distance from the anchor using "Sphere Collision" logic.
+     * Acts as a solid spherical barrier: clamps position and cancels outward velocity.
+     * This prevents the camera from snapping back violently.
+     *
+     * @param anchorX sphere center X
+     * @param anchorY sphere center Y
+     * @param anchorZ sphere center Z
+     * @param maxDistance sphere radius
+     */
+    void applyDistanceConstraint(double anchorX, double anchorY, double anchorZ, double maxDistance) {
+        double offsetX = position[0] - anchorX;
+        double offsetY = position[1] - anchorY;
+        double offsetZ = position[2] - anchorZ;
+        double distance = Math.sqrt(offsetX * offsetX + offsetY * offsetY + offsetZ * offsetZ);
+
+        // Only if we are outside the boundary
+        if (distance <= maxDistance) {
+            return;
+        }
+
+        // 1. Clamp Position: Place camera exactly on the sphere surface
+        double dirX = offsetX / distance;
+        double dirY = offsetY / distance;
+        double dirZ = offsetZ / distance;
+        position[0] = anchorX + dirX * maxDistance;
+        position[1] = anchorY + dirY * maxDistance;
+        position[2] = anchorZ + dirZ * maxDistance;
+
+        // 2. Project Velocity: "Slide" along the wall
+        // We remove the component of velocity that pushes us OUT of the sphere.
+        // Formula: V_new = V_old - (V_old . Normal) * Normal
+        double dotProduct = velocityX * dirX + velocityY * dirY + velocityZ * dirZ;
+
+        // Only modify velocity if we are actually moving AWAY (dotProduct > 0)
+        if (dotProduct > 0) {
+            velocityX -= dirX * dotProduct;
+            velocityY -= dirY * dotProduct;
+            velocityZ -= dirZ * dotProduct;
+        }
+    }
+
+    /**
+     * Checks if the camera has come to rest with no movement input.
+     *
+     * @return true if there is no input and velocity is negligible
+     */
+    boolean isAtRest() {
+        return !hasInput && isSlow();
+    }
+
+    /**
+     * Checks if velocity is too small to move the camera.
+     *
+     * @return true if velocity is negligible
+     */
+    private boolean isSlow() {
+        return velocityX * velocityX + velocityY * velocityY + velocityZ * velocityZ < MIN_VELOCITY_THRESHOLD;
+    }
+
+    /**
+     * Cancels all velocity.
+     */
+    void stop() {
+        this.velocityX = 0;
+        this.velocityY = 0;
+        this.velocityZ = 0;
+        this.hasInput = false;
+    }
+
+    /**
+     * Sets the position without collisions.
+     * The previous position is kept, call {@link #storePrevious()} first as needed.
+     *
+     * @param x X position
+     * @param y Y position
+     * @param z Z position
+     */
+    void setPosition(double x, double y, double z) {
+        position[0] = x;
+        position[1] = y;
+        position[2] = z;
+    }
+
+    /**
+     * Writes interpolated position into a caller-supplied buffer.
+     *
+     * @param tickDelta partial tick time (0.0 to 1.0)
+     * @param out buffer of at least 3 elements, receives x, y, z
+     */
+    void getPos(float tickDelta, double[] out) {
+        out[0] = prevPosition[0] + tickDelta * (position[0] - prevPosition[0]);
+        out[1] = prevPosition[1] + tickDelta * (position[1] - prevPosition[1]);
+        out[2] = prevPosition[2] + tickDelta * (position[2] - prevPosition[2]);
+    }
+
+    /**
+     * Gets current X position (non-interpolated).
+     *
+     * @return X position
+     */
+    double getX() {
+        return position[0];
+    }
+
+    /**
+     * Gets current Y position (non-interpolated).
+     *
+     * @return Y position
+     */
+    double getY() {
+        return position[1];
+    }
+
+    /**
+     * Gets current Z position (non-interpolated).
+     *
+     * @return Z position
+     */
+    double getZ() {
+        return position[2];
+    }
+}
@@ -1,74 +1,140 @@
 package org.PanicS_Knight.freecam_legit.client.camera;
 
-import net.minecraft.util.math.Box;
-import net.minecraft.util.math.Vec3d;
-import net.minecraft.world.World;
-
 /**
  * Utility class for handling collision detection in freecam movement.
  * Ensures camera cannot pass through solid blocks.
+ * Works on primitive coordinates and never allocates.
  *
  * @author PanicS_Knight
- * @version 1.0
+ * @version 1.2
  */
 public final class CollisionHelper {
 
     private static final double MIN_MOVEMENT_THRESHOLD = 0.0001;
 
+    // Sub-steps stay this much shorter than box width + 1 block, the length at which a box can skip a wall
+    private static final double TUNNEL_MARGIN = 0.1;
+
     private CollisionHelper() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
 
     /**
-     * Moves position along motion vector while checking for collisions.
+     * Moves a box-shaped body along a motion vector while checking for collisions.
      * Tests each axis (X, Y, Z) independently to allow sliding along walls.
+     * If the box swept over the whole motion is clear, the move is done with a single query.
+     * Otherwise motion is split into sub-steps no longer than the given length, and never
+     * long enough to skip over a one-block wall.
      *
-     * @param currentPos starting position
-     * @param motion desired movement vector
-     * @param boundingBox collision bounding box
+     * @param pos position of the bottom center of the box, updated in place (x, y, z)
+     * @param motionX desired movement along X
+     * @param motionY desired movement along Y
+     * @param motionZ desired movement along Z
+     * @param width box width (X and Z)
+     * @param height box height
      * @param world world to check collisions in
-     * @return final position after collision resolution
+     * @param maxStepLength longest distance moved per sub-step
      */
-    public static Vec3d moveWithCollision(Vec3d currentPos, Vec3d motion, Box boundingBox, World world) {
+    public static void moveWithCollision(double[] pos, double motionX, double motionY, double motionZ,
+                                         double width, double height, CollisionWorld world,
+                                         double maxStepLength) {
         // Skip if movement is negligible
-        if (motion.lengthSquared() < MIN_MOVEMENT_THRESHOLD) {
-            return currentPos;
+        double lengthSq = motionX * motionX + motionY * motionY + motionZ * motionZ;
+        if (lengthSq < MIN_MOVEMENT_THRESHOLD) {
+            return;
         }
 
-        // Try moving along X axis
-        currentPos = tryMoveAxis(currentPos, motion.x, 0, 0, boundingBox, world);
-        boundingBox = boundingBox.offset(motion.x, 0, 0);
+        // Clear path: nothing to collide with anywhere between start and end
+        if (isSweepEmpty(pos, motionX, motionY, motionZ, width, height, world)) {
+            pos[0] += motionX;
+            pos[1] += motionY;
+            pos[2] += motionZ;
+            return;
+        }
+
+        double stepLength = Math.min(maxStepLength, getMaxSafeStep(width));
+        int steps = Math.max(1, (int) Math.ceil(Math.sqrt(lengthSq) / stepLength));
+
+        double stepX = motionX / steps;
+        double stepY = motionY / steps;
+        double stepZ = motionZ / steps;
 
-        // Try moving along Y axis
-        currentPos = tryMoveAxis(currentPos, 0, motion.y, 0, boundingBox, world);
-        boundingBox = boundingBox.offset(0, motion.y, 0);
+        for (int i = 0; i < steps; i++) {
+            boolean moved = tryMoveAxis(pos, 0, stepX, width, height, world);
+            moved |= tryMoveAxis(pos, 1, stepY, width, height, world);
+            moved |= tryMoveAxis(pos, 2, stepZ, width, height, world);
 
-        // Try moving along Z axis
-        currentPos = tryMoveAxis(currentPos, 0, 0, motion.z, boundingBox, world);
+            // Fully blocked, remaining sub-steps cannot move either
+            if (!moved) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the longest sub-step that cannot skip over a one-block wall.
+     *
+     * @param width box width (X and Z)
+     * @return max safe sub-step length in blocks
+     */
+    public static double getMaxSafeStep(double width) {
+        return width + 1 - TUNNEL_MARGIN;
+    }
 
-        return currentPos;
+    /**
+     * Checks if the box swept along the whole motion is free of collisions.
+     *
+     * @param pos start position of the bottom center of the box
+     * @param motionX movement along X
+     * @param motionY movement along Y
+     * @param motionZ movement along Z
+     * @param width box width (X and Z)
+     * @param height box height
+     * @param world world to check
+     * @return true if the union of the start and end boxes is empty
+     */
+    private static boolean isSweepEmpty(double[] pos, double motionX, double motionY, double motionZ,
+                                        double width, double height, CollisionWorld world) {
+        double halfWidth = width / 2;
+        return world.isSpaceEmpty(
+                pos[0] + Math.min(0, motionX) - halfWidth,
+                pos[1] + Math.min(0, motionY),
+                pos[2] + Math.min(0, motionZ) - halfWidth,
+                pos[0] + Math.max(0, motionX) + halfWidth,
+                pos[1] + Math.max(0, motionY) + height,
+                pos[2] + Math.max(0, motionZ) + halfWidth
+        );
     }
 
     /**
      * Attempts to move along a single axis if space is empty.
      *
-     * @param pos current position
-     * @param dx movement along X axis
-     * @param dy movement along Y axis
-     * @param dz movement along Z axis
-     * @param boundingBox collision bounding box
+     * @param pos current position, updated in place if the move succeeds
+     * @param axis axis index (0 = X, 1 = Y, 2 = Z)
+     * @param delta movement along the axis
+     * @param width box width (X and Z)
+     * @param height box height
      * @param world world to check
-     * @return new position (moved if possible, unchanged if blocked)
+     * @return true if the position was moved
      */
-    private static Vec3d tryMoveAxis(Vec3d pos, double dx, double dy, double dz, Box boundingBox, World world) {
-        Box testBox = boundingBox.offset(dx, dy, dz);
+    private static boolean tryMoveAxis(double[] pos, int axis, double delta,
+                                       double width, double height, CollisionWorld world) {
+        if (delta == 0) {
+            return false;
+        }
+
+        double x = axis == 0 ? pos[0] + delta : pos[0];
+        double y = axis == 1 ? pos[1] + delta : pos[1];
+        double z = axis == 2 ? pos[2] + delta : pos[2];
+        double halfWidth = width / 2;
 
         // Check if target space is empty (no collision)
-        if (world.isSpaceEmpty(testBox)) {
-            return pos.add(dx, dy, dz);
+        if (world.isSpaceEmpty(x - halfWidth, y, z - halfWidth, x + halfWidth, y + height, z + halfWidth)) {
+            pos[axis] += delta;
+            return true;
         }
 
-        // Blocked, return original position
-        return pos;
+        // Blocked, keep original position
+        return false;
     }
-}
\ No newline at end of file
+}
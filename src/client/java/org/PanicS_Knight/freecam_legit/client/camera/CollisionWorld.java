@@ -0,0 +1,26 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+/**
+ * Collision query used by {@link CollisionHelper}.
+ * Takes the box as plain coordinates so the movement code itself stays allocation-free;
+ * the client world is adapted to it in {@link FreecamEntity}.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CollisionWorld {
+
+    /**
+     * Checks if a box is free of block collisions.
+     *
+     * @param minX box minimum X
+     * @param minY box minimum Y
+     * @param minZ box minimum Z
+     * @param maxX box maximum X
+     * @param maxY box maximum Y
+     * @param maxZ box maximum Z
+     * @return true if nothing solid intersects the box
+     */
+    boolean isSpaceEmpty(double minX, double minY, double minZ, double maxX, double maxY, double maxZ);
+}
@@ -0,0 +1,78 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+/**
+ * Quality levels the freecam can run at under client lag.
+ * Each level trades accuracy of camera work for lower tick and frame cost.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public enum FidelityLevel {
+    /** Fine collision sub-steps, HUD refreshed every frame, analytics on. */
+    FULL(0.5, 1, true),
+
+    /** Coarser collision sub-steps, HUD refreshed every few frames, analytics off. */
+    REDUCED(1.0, 4, false),
+
+    /**
+     * Longest collision sub-step that still cannot skip a one-block wall,
+     * HUD refreshed rarely, analytics off.
+     */
+    MINIMAL(1.5, 20, false);
+
+    private final double maxCollisionStep;
+    private final int hudRefreshInterval;
+    private final boolean analyticsEnabled;
+
+    FidelityLevel(double maxCollisionStep, int hudRefreshInterval, boolean analyticsEnabled) {
+        this.maxCollisionStep = maxCollisionStep;
+        this.hudRefreshInterval = hudRefreshInterval;
+        this.analyticsEnabled = analyticsEnabled;
+    }
+
+    /**
+     * Gets the longest distance moved in one collision sub-step.
+     * Every level stays below box width + 1 block, so no level lets the camera pass walls.
+     *
+     * @return max sub-step length in blocks
+     */
+    public double getMaxCollisionStep() {
+        return maxCollisionStep;
+    }
+
+    /**
+     * Gets how many frames the HUD text is reused before re-formatting.
+     *
+     * @return refresh interval in frames
+     */
+    public int getHudRefreshInterval() {
+        return hudRefreshInterval;
+    }
+
+    /**
+     * Checks if optional diagnostics (allocation sampling) may run.
+     *
+     * @return true if analytics are enabled at this level
+     */
+    public boolean isAnalyticsEnabled() {
+        return analyticsEnabled;
+    }
+
+    /**
+     * Gets the next cheaper level.
+     *
+     * @return lower level, or this level if already minimal
+     */
+    public FidelityLevel lower() {
+        return this == FULL ? REDUCED : MINIMAL;
+    }
+
+    /**
+     * Gets the next more accurate level.
+     *
+     * @return higher level, or this level if already full
+     */
+    public FidelityLevel higher() {
+        return this == MINIMAL ? REDUCED : FULL;
+    }
+}
@@ -1,50 +1,60 @@
 package org.PanicS_Knight.freecam_legit.client.camera;
 
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.option.GameOptions;
+import net.minecraft.client.world.ClientWorld;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
 import org.PanicS_Knight.freecam_legit.config.ModConfig;
 
 /**
  * Represents the freecam virtual camera entity.
  * Handles camera movement, rotation, physics, and collision detection.
+ * Movement itself runs allocation-free in {@link CameraMotion}; this class gathers input
+ * and player state for it. While at rest with no input the camera is dormant and skips
+ * tick work until woken.
  *
  * @author PanicS_Knight
- * @version 1.2
+ * @version 1.3
  */
 public class FreecamEntity {
-    // Camera dimensions (similar to player)
-    private static final double CAMERA_WIDTH = 0.6;
-    private static final double CAMERA_HEIGHT = 1.8;
-
-    // Movement constants
-    private static final float ACCELERATION_FACTOR = 0.5f;
-    private static final double MIN_VELOCITY_THRESHOLD = 0.00001;
-
     // Mouse sensitivity constants
     private static final double MOUSE_SENSITIVITY_BASE = 0.6;
     private static final double MOUSE_SENSITIVITY_OFFSET = 0.2;
     private static final float MOUSE_MULTIPLIER = 8.0f;
     private static final float MOUSE_SMOOTHING = 0.15f;
 
+    // Anchor movement (squared, blocks) below which a dormant camera ignores the player
+    private static final double DORMANT_ANCHOR_EPSILON_SQ = 0.0001;
+
     // Pitch limits (degrees)
     private static final float MAX_PITCH = 90.0f;
     private static final float MIN_PITCH = -90.0f;
 
     private final MinecraftClient client;
 
-    // Position and previous position for interpolation
-    private Vec3d position;
-    private Vec3d prevPosition;
+    // Position, previous position and velocity
+    private final CameraMotion motion;
 
-    // Rotation (in degrees)
+    // Rotation and previous rotation (in degrees)
     private float yaw;
     private float pitch;
-
-    // Current velocity vector
-    private Vec3d velocity;
+    private float prevYaw;
+    private float prevPitch;
+
+    // Dormant state: camera at rest, tick work skipped until woken
+    private boolean dormant;
+    private boolean wakeRequested;
+    private double dormantAnchorX;
+    private double dormantAnchorY;
+    private double dormantAnchorZ;
+    private ClientWorld dormantWorld;
+    private Screen dormantScreen;
 
     /**
      * Creates a new freecam entity at the player's current position and rotation.
@@ -53,11 +63,28 @@ public class FreecamEntity {
      */
     public FreecamEntity(ClientPlayerEntity player) {
         this.client = MinecraftClient.getInstance();
-        this.position = player.getPos();
-        this.prevPosition = position;
+        this.motion = new CameraMotion(this::isSpaceEmpty, SectionReadiness::isReady,
+                player.getX(), player.getY(), player.getZ());
         this.yaw = player.getYaw();
         this.pitch = player.getPitch();
-        this.velocity = Vec3d.ZERO;
+        this.prevYaw = yaw;
+        this.prevPitch = pitch;
+    }
+
+    /**
+     * Adapts the client world to {@link CollisionWorld}.
+     *
+     * @param minX box minimum X
+     * @param minY box minimum Y
+     * @param minZ box minimum Z
+     * @param maxX box maximum X
+     * @param maxY box maximum Y
+     * @param maxZ box maximum Z
+     * @return true if the box is free of block collisions
+     */
+    private boolean isSpaceEmpty(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        ClientWorld world = client.world;
+        return world != null && world.isSpaceEmpty(new Box(minX, minY, minZ, maxX, maxY, maxZ));
     }
 
     /**
@@ -82,62 +109,175 @@ public class FreecamEntity {
 
         // Clamp pitch to prevent camera flip
         this.pitch = MathHelper.clamp(this.pitch, MIN_PITCH, MAX_PITCH);
+
+        // Mouse look applies per frame, nothing to interpolate
+        this.prevYaw = this.yaw;
+        this.prevPitch = this.pitch;
     }
 
     /**
      * Ticks the camera entity.
      * Updates position based on input, applies block collisions, and enforces distance limits.
+     * Each phase is reported to the vanilla profiler as its own section.
+     * A dormant camera only checks its wake conditions.
      */
     public void tick() {
         if (client.player == null) {
             return;
         }
 
-        // Store previous position for smooth interpolation
-        this.prevPosition = this.position;
-
-        // Calculate target velocity from input
-        Vec3d targetVelocity = calculateTargetVelocity();
-
-        // Smoothly accelerate/decelerate towards target velocity
-        this.velocity = velocity.lerp(targetVelocity, ACCELERATION_FACTOR);
-
-        // 1. Apply movement with standard block collisions
-        applyMovementWithCollisions();
+        if (dormant) {
+            // Nothing moves: keep interpolation collapsed onto the current pose
+            motion.storePrevious();
+            this.prevYaw = this.yaw;
+            this.prevPitch = this.pitch;
 
-        // 2. Apply "Sphere Collision" (Max distance constraint)
-        applyDistanceConstraint();
-    }
+            if (!shouldWake()) {
+                return;
+            }
+            this.dormant = false;
+        }
 
-    /**
-     * Calculates target velocity based on current input state.
-     *
-     * @return target velocity vector
-     */
-    private Vec3d calculateTargetVelocity() {
+        Profiler profiler = Profilers.get();
         ModConfig config = ModConfig.getInstance();
 
+        // Store previous rotation for smooth interpolation
+        this.prevYaw = this.yaw;
+        this.prevPitch = this.pitch;
+
         // Gather movement input
+        profiler.push("input");
         float forward = getForwardInput();
         float strafe = getStrafeInput();
         float vertical = getVerticalInput();
-
-        // Calculate movement speed with sprint modifier
         float speed = config.moveSpeed;
         if (client.options.sprintKey.isPressed()) {
             speed *= config.sprintMultiplier;
         }
 
-        // If no input, return zero velocity (smooth stop)
-        if (forward == 0 && strafe == 0 && vertical == 0) {
-            return Vec3d.ZERO;
+        // Accelerate, then readiness, block collisions and the max distance sphere
+        profiler.swap("movement");
+        motion.tick(forward, strafe, vertical, speed, yaw,
+                TickBudgetGovernor.getLevel().getMaxCollisionStep(),
+                client.player.getX(), client.player.getY(), client.player.getZ(), config.maxDistance);
+        profiler.pop();
+
+        // At rest with no input: skip work until something changes
+        if (motion.isAtRest()) {
+            enterDormant();
         }
+    }
 
-        // Calculate movement vectors based on camera rotation
-        Vec3d horizontalMotion = calculateHorizontalMotion(forward, strafe, speed);
+    /**
+     * Enters the dormant state, remembering what would require waking up.
+     */
+    private void enterDormant() {
+        assert client.player != null;
+        motion.stop();
+        this.dormant = true;
+        this.wakeRequested = false;
+        this.dormantAnchorX = client.player.getX();
+        this.dormantAnchorY = client.player.getY();
+        this.dormantAnchorZ = client.player.getZ();
+        this.dormantWorld = client.world;
+        this.dormantScreen = client.currentScreen;
+    }
 
-        // Add vertical component (pure up/down, not affected by pitch)
-        return horizontalMotion.add(0, vertical * speed, 0);
+    /**
+     * Checks whether a dormant camera must resume ticking.
+     * Wakes on explicit requests (key input, nearby chunk changes), held movement keys,
+     * world or screen changes, or when the player moved far enough to push the camera
+     * out of the sphere. Movement keys are polled because they may be bound to mouse
+     * buttons, which the keyboard hook does not see.
+     *
+     * @return true if the camera must run a full tick
+     */
+    private boolean shouldWake() {
+        if (wakeRequested || client.world != dormantWorld || client.currentScreen != dormantScreen) {
+            return true;
+        }
+
+        if (isMovementKeyPressed()) {
+            return true;
+        }
+
+        assert client.player != null;
+        double anchorX = client.player.getX();
+        double anchorY = client.player.getY();
+        double anchorZ = client.player.getZ();
+        if (squaredDistance(anchorX, anchorY, anchorZ, dormantAnchorX, dormantAnchorY, dormantAnchorZ)
+                < DORMANT_ANCHOR_EPSILON_SQ) {
+            return false;
+        }
+
+        // Anchor moved (e.g. gravity): only matters if the sphere constraint is violated
+        this.dormantAnchorX = anchorX;
+        this.dormantAnchorY = anchorY;
+        this.dormantAnchorZ = anchorZ;
+        double maxDist = ModConfig.getInstance().maxDistance;
+        return squaredDistance(motion.getX(), motion.getY(), motion.getZ(), anchorX, anchorY, anchorZ)
+                > maxDist * maxDist;
+    }
+
+    /**
+     * Checks if any key that moves the camera is held.
+     *
+     * @return true if forward, back, left, right, jump or sneak is pressed
+     */
+    private boolean isMovementKeyPressed() {
+        GameOptions options = client.options;
+        return options.forwardKey.isPressed() || options.backKey.isPressed()
+                || options.leftKey.isPressed() || options.rightKey.isPressed()
+                || options.jumpKey.isPressed() || options.sneakKey.isPressed();
+    }
+
+    /**
+     * Computes the squared distance between two points.
+     *
+     * @param x1 first point X
+     * @param y1 first point Y
+     * @param z1 first point Z
+     * @param x2 second point X
+     * @param y2 second point Y
+     * @param z2 second point Z
+     * @return squared distance in blocks
+     */
+    private static double squaredDistance(double x1, double y1, double z1, double x2, double y2, double z2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        double dz = z1 - z2;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Requests a dormant camera to resume ticking.
+     * Called on key input and world changes near the camera.
+     */
+    public void wake() {
+        this.wakeRequested = true;
+    }
+
+    /**
+     * Wakes the camera if a chunk next to it has changed.
+     *
+     * @param chunkX changed chunk X
+     * @param chunkZ changed chunk Z
+     */
+    public void wakeIfNear(int chunkX, int chunkZ) {
+        int cameraChunkX = MathHelper.floor(motion.getX()) >> 4;
+        int cameraChunkZ = MathHelper.floor(motion.getZ()) >> 4;
+        if (Math.abs(chunkX - cameraChunkX) <= 1 && Math.abs(chunkZ - cameraChunkZ) <= 1) {
+            this.wakeRequested = true;
+        }
+    }
+
+    /**
+     * Checks if the camera is dormant (at rest, tick work skipped).
+     *
+     * @return true if dormant
+     */
+    public boolean isDormant() {
+        return dormant;
     }
 
     /**
@@ -177,122 +317,120 @@ public class FreecamEntity {
     }
 
     /**
-     * Calculates horizontal motion vector based on look direction.
-     * Uses "Creative-style" flight logic (ignores pitch for WASD movement).
+     * Moves the camera towards a requested pose.
+     * Movement respects block collisions and the max distance constraint,
+     * so the camera may stop short of the target. The whole path is swept,
+     * so the camera cannot pass through walls on the way. Velocity is reset.
      *
-     * @param forward forward input value
-     * @param strafe strafe input value
-     * @param speed movement speed
-     * @return horizontal motion vector (Y component is always 0)
+     * @param x target X position
+     * @param y target Y position
+     * @param z target Z position
+     * @param yaw target yaw in degrees
+     * @param pitch target pitch in degrees
      */
-    private Vec3d calculateHorizontalMotion(float forward, float strafe, float speed) {
-        // Normalize diagonal movement to prevent faster movement
-        float horizontalMagnitude = (float) Math.sqrt(forward * forward + strafe * strafe);
-        if (horizontalMagnitude > 0) {
-            forward /= horizontalMagnitude;
-            strafe /= horizontalMagnitude;
+    public void requestPose(double x, double y, double z, float yaw, float pitch) {
+        this.yaw = yaw;
+        this.pitch = MathHelper.clamp(pitch, MIN_PITCH, MAX_PITCH);
+        this.prevYaw = this.yaw;
+        this.prevPitch = this.pitch;
+        motion.stop();
+        this.dormant = false;
+
+        if (client.player != null && client.world != null) {
+            motion.moveTowards(x, y, z, client.player.getX(), client.player.getY(), client.player.getZ(),
+                    ModConfig.getInstance().maxDistance, FidelityLevel.FULL.getMaxCollisionStep());
+            applyDistanceConstraint();
         }
 
-        // Convert rotation to radians
-        float yawRad = (float) Math.toRadians(this.yaw);
-
-        // Creative Flight Logic:
-        Vec3d forwardDir = new Vec3d(
-                -Math.sin(yawRad),
-                0,
-                Math.cos(yawRad)
-        );
-
-        // Calculate Right direction (Perpendicular to forward)
-        Vec3d rightDir = new Vec3d(
-                Math.cos(yawRad),
-                0,
-                Math.sin(yawRad)
-        );
-
-        // Combine forward and strafe movement
-        Vec3d motion = forwardDir.multiply(forward).add(rightDir.multiply(strafe));
-
-        return motion.multiply(speed);
+        // Jump without interpolating across the move
+        motion.storePrevious();
     }
 
     /**
-     * Applies current velocity to position with collision detection.
-     * Prevents camera from moving through solid blocks.
+     * Moves the camera to the pose from a camera path replay.
+     * Bypasses input but not the rules live flight obeys: the move is swept with block
+     * collisions and clamped to the max distance sphere, so a recording from elsewhere
+     * cannot carry the camera through walls or away from the player.
+     * The previous pose is kept so rendering interpolates smoothly between replay ticks.
+     *
+     * @param x X position
+     * @param y Y position
+     * @param z Z position
+     * @param yaw yaw in degrees
+     * @param pitch pitch in degrees
      */
-    private void applyMovementWithCollisions() {
-        if (velocity.lengthSquared() < MIN_VELOCITY_THRESHOLD) {
-            return;
+    public void setReplayPose(double x, double y, double z, float yaw, float pitch) {
+        motion.storePrevious();
+        this.prevYaw = this.yaw;
+        this.prevPitch = this.pitch;
+        this.yaw = yaw;
+        this.pitch = MathHelper.clamp(pitch, MIN_PITCH, MAX_PITCH);
+        motion.stop();
+        this.dormant = false;
+
+        if (client.player != null && client.world != null) {
+            motion.moveTowards(x, y, z, client.player.getX(), client.player.getY(), client.player.getZ(),
+                    ModConfig.getInstance().maxDistance, FidelityLevel.FULL.getMaxCollisionStep());
+            applyDistanceConstraint();
         }
-
-        // Create bounding box for collision detection
-        Box boundingBox = new Box(
-                position.x - CAMERA_WIDTH / 2, position.y, position.z - CAMERA_WIDTH / 2,
-                position.x + CAMERA_WIDTH / 2, position.y + CAMERA_HEIGHT, position.z + CAMERA_WIDTH / 2
-        );
-
-        // Move with collision checking and update position directly
-        this.position = CollisionHelper.moveWithCollision(
-                position,
-                velocity,
-                boundingBox,
-                client.world
-        );
     }
 
     /**
-     * Limits the camera distance from the player using "Sphere Collision" logic.
-     * Acts as a solid spherical barrier: clamps position and cancels outward velocity.
-     * This prevents the camera from snapping back violently.
+     * Keeps the camera within the configured max distance from the player.
      */
     private void applyDistanceConstraint() {
         if (client.player == null) return;
 
-        Vec3d anchor = client.player.getPos();
-        Vec3d offset = this.position.subtract(anchor);
-        double distance = offset.length();
-        double maxDist = ModConfig.getInstance().maxDistance;
-
-        // If we are outside or exactly at the boundary
-        if (distance > maxDist) {
-            // 1. Clamp Position: Place camera exactly on the sphere surface
-            Vec3d direction = offset.normalize();
-            this.position = anchor.add(direction.multiply(maxDist));
-
-            // 2. Project Velocity: "Slide" along the wall
-            // We remove the component of velocity that pushes us OUT of the sphere.
-            // Formula: V_new = V_old - (V_old . Normal) * Normal
-            double dotProduct = this.velocity.dotProduct(direction);
-
-            // Only modify velocity if we are actually moving AWAY (dotProduct > 0)
-            if (dotProduct > 0) {
-                Vec3d outwardComponent = direction.multiply(dotProduct);
-                this.velocity = this.velocity.subtract(outwardComponent);
-            }
-        }
+        motion.applyDistanceConstraint(client.player.getX(), client.player.getY(), client.player.getZ(),
+                ModConfig.getInstance().maxDistance);
     }
 
     /**
-     * Gets interpolated position for smooth rendering between ticks.
+     * Writes interpolated position into a caller-supplied buffer.
+     * Used for smooth rendering between ticks, does not allocate.
      *
      * @param tickDelta partial tick time (0.0 to 1.0)
-     * @return interpolated position
+     * @param out buffer of at least 3 elements, receives x, y, z
      */
-    public Vec3d getPos(float tickDelta) {
-        return new Vec3d(
-                MathHelper.lerp(tickDelta, prevPosition.x, position.x),
-                MathHelper.lerp(tickDelta, prevPosition.y, position.y),
-                MathHelper.lerp(tickDelta, prevPosition.z, position.z)
-        );
+    public void getPos(float tickDelta, double[] out) {
+        motion.getPos(tickDelta, out);
     }
 
     /**
      * Gets current camera position (non-interpolated).
+     * Allocates; hot paths should use {@link #getX()}, {@link #getY()} and {@link #getZ()}.
      *
      * @return current position
      */
     public Vec3d getPos() {
-        return position;
+        return new Vec3d(motion.getX(), motion.getY(), motion.getZ());
+    }
+
+    /**
+     * Gets current X position (non-interpolated).
+     *
+     * @return X position
+     */
+    public double getX() {
+        return motion.getX();
+    }
+
+    /**
+     * Gets current Y position (feet, non-interpolated).
+     *
+     * @return Y position
+     */
+    public double getY() {
+        return motion.getY();
+    }
+
+    /**
+     * Gets current Z position (non-interpolated).
+     *
+     * @return Z position
+     */
+    public double getZ() {
+        return motion.getZ();
     }
 
     /**
@@ -304,6 +442,26 @@ public class FreecamEntity {
         return yaw;
     }
 
+    /**
+     * Gets interpolated yaw for smooth rendering between replay ticks.
+     *
+     * @param tickDelta partial tick time (0.0 to 1.0)
+     * @return yaw in degrees
+     */
+    public float getYaw(float tickDelta) {
+        return MathHelper.lerp(tickDelta, prevYaw, yaw);
+    }
+
+    /**
+     * Gets interpolated pitch for smooth rendering between replay ticks.
+     *
+     * @param tickDelta partial tick time (0.0 to 1.0)
+     * @return pitch in degrees
+     */
+    public float getPitch(float tickDelta) {
+        return MathHelper.lerp(tickDelta, prevPitch, pitch);
+    }
+
     /**
      * Gets current pitch rotation.
      *
@@ -4,12 +4,23 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.Perspective;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
+import org.PanicS_Knight.freecam_legit.client.api.FreecamListener;
+import org.PanicS_Knight.freecam_legit.client.debug.AllocationMonitor;
+import org.PanicS_Knight.freecam_legit.client.replay.CameraPathWriter;
+import org.PanicS_Knight.freecam_legit.client.replay.ReplayPlayer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 /**
  * Central handler for freecam state management.
- * Manages camera lifecycle, player freezing, and global state.
+ * Manages camera lifecycle, player freezing, camera path recording/replay, and global state.
  *
  * @author PanicS_Knight
  * @version 1.1
@@ -21,6 +32,8 @@ public final class FreecamHandler {
     private static final String PREFIX = "§a[Freecam] §7";
     private static final String MSG_ENABLED = PREFIX + "Включён (V для выключения)";
     private static final String MSG_DISABLED = PREFIX + "§cВыключен";
+    private static final String MSG_REPLAY_STARTED = PREFIX + "Воспроизведение пути камеры";
+    private static final String MSG_REPLAY_FINISHED = PREFIX + "Воспроизведение завершено";
 
     // State management
     private static boolean enabled = false;
@@ -33,6 +46,23 @@ public final class FreecamHandler {
     private static float frozenYaw;
     private static float frozenPitch;
 
+    // Camera path replay (drives the camera instead of input) and recording
+    private static ReplayPlayer replayPlayer;
+    private static Path replayPath;
+    private static CameraPathWriter pathWriter;
+    private static Path recordPath;
+    private static int recordTick;
+
+    // Registered API listeners (copy-on-write, iterated without allocation)
+    private static volatile FreecamListener[] listeners = new FreecamListener[0];
+
+    // Last pose dispatched to listeners
+    private static double lastPoseX;
+    private static double lastPoseY;
+    private static double lastPoseZ;
+    private static float lastPoseYaw;
+    private static float lastPosePitch;
+
     private FreecamHandler() {
         throw new UnsupportedOperationException("Handler class cannot be instantiated");
     }
@@ -66,6 +96,19 @@ public final class FreecamHandler {
         }
     }
 
+    /**
+     * Sets freecam to the requested state.
+     * Does nothing if freecam is already in that state.
+     *
+     * @param client minecraft client instance
+     * @param enable true to enable, false to disable
+     */
+    public static void setEnabled(MinecraftClient client, boolean enable) {
+        if (enabled != enable) {
+            toggle(client);
+        }
+    }
+
     /**
      * Enables freecam mode.
      * Saves player position/rotation and creates camera entity.
@@ -82,6 +125,8 @@ public final class FreecamHandler {
 
         // Create camera at player's current position
         cameraEntity = new FreecamEntity(client.player);
+        TickBudgetGovernor.reset();
+        SectionReadiness.tick(client);
 
         // Switch to third person to see frozen player
         previousPerspective = client.options.getPerspective();
@@ -91,6 +136,15 @@ public final class FreecamHandler {
         client.player.sendMessage(Text.literal(MSG_ENABLED), true);
 
         LOGGER.info("Freecam enabled at position: X={}, Z={}", frozenX, frozenZ);
+
+        for (FreecamListener listener : listeners) {
+            try {
+                listener.onEnabled();
+            } catch (RuntimeException e) {
+                LOGGER.error("Freecam listener {} failed in onEnabled", listener, e);
+            }
+        }
+        dispatchPose(true);
     }
 
     /**
@@ -100,8 +154,13 @@ public final class FreecamHandler {
      * @param client minecraft client instance
      */
     private static void disable(MinecraftClient client) {
+        // Stop replay/recording before releasing the camera
+        stopReplay();
+        stopRecording();
+
         // Clean up camera entity
         cameraEntity = null;
+        SectionReadiness.reset();
 
         // Restore previous camera perspective
         if (previousPerspective != null) {
@@ -115,6 +174,14 @@ public final class FreecamHandler {
         }
 
         LOGGER.info("Freecam disabled");
+
+        for (FreecamListener listener : listeners) {
+            try {
+                listener.onDisabled();
+            } catch (RuntimeException e) {
+                LOGGER.error("Freecam listener {} failed in onDisabled", listener, e);
+            }
+        }
     }
 
     /**
@@ -129,11 +196,232 @@ public final class FreecamHandler {
             return;
         }
 
+        long budgetStart = TickBudgetGovernor.begin();
+        long allocStart = AllocationMonitor.begin();
+        Profiler profiler = Profilers.get();
+        profiler.push("freecam");
+
         // Freeze player at saved horizontal position (allow vertical movement from gravity)
+        profiler.push("freeze");
         freezePlayer(client);
 
-        // Update camera position and physics (including collision and distance limits)
-        cameraEntity.tick();
+        // Refresh terrain readiness around the player
+        profiler.swap("readiness");
+        SectionReadiness.tick(client);
+
+        if (replayPlayer != null) {
+            // Drive the camera from the camera path instead of input
+            profiler.swap("replay");
+            tickReplay(client);
+        } else {
+            // Update camera position and physics (including collision and distance limits)
+            profiler.swap("camera");
+            cameraEntity.tick();
+        }
+
+        if (pathWriter != null) {
+            profiler.swap("record");
+            recordPose();
+        }
+
+        // Notify API listeners only if the pose actually changed
+        profiler.swap("listeners");
+        dispatchPose(false);
+
+        profiler.pop();
+        profiler.pop();
+
+        AllocationMonitor.end(AllocationMonitor.HotPath.TICK, allocStart);
+        TickBudgetGovernor.endTick(budgetStart);
+    }
+
+    /**
+     * Advances the replay and moves the camera to its pose.
+     * Collisions and the max distance still apply, so the camera may lag behind the path.
+     * Stops the replay once the end of the path has been played.
+     *
+     * @param client minecraft client instance
+     */
+    private static void tickReplay(MinecraftClient client) {
+        if (!replayPlayer.advance()) {
+            stopReplay();
+            if (client.player != null) {
+                client.player.sendMessage(Text.literal(MSG_REPLAY_FINISHED), true);
+            }
+            return;
+        }
+
+        if (replayPlayer.hasPose()) {
+            cameraEntity.setReplayPose(
+                    replayPlayer.getX(), replayPlayer.getY(), replayPlayer.getZ(),
+                    replayPlayer.getYaw(), replayPlayer.getPitch()
+            );
+        }
+    }
+
+    /**
+     * Appends the current camera pose to the recording.
+     * Stops recording if the file cannot be written.
+     */
+    private static void recordPose() {
+        try {
+            pathWriter.write(recordTick++, cameraEntity.getX(), cameraEntity.getY(), cameraEntity.getZ(),
+                    cameraEntity.getYaw(), cameraEntity.getPitch());
+        } catch (IOException e) {
+            LOGGER.error("Failed to write camera path, recording stopped", e);
+            stopRecording();
+        }
+    }
+
+    /**
+     * Starts replaying a camera path file.
+     * Freecam must be enabled; any running replay is replaced.
+     *
+     * @param path camera path file
+     * @return true if the replay started
+     */
+    public static boolean startReplay(Path path) {
+        if (!enabled || cameraEntity == null) {
+            LOGGER.warn("Cannot start replay: freecam is disabled");
+            return false;
+        }
+
+        if (isSameFile(path, recordPath)) {
+            LOGGER.warn("Cannot replay {}: it is being recorded", path);
+            return false;
+        }
+
+        stopReplay();
+        try {
+            replayPlayer = ReplayPlayer.open(path);
+        } catch (IOException e) {
+            LOGGER.error("Failed to open camera path {}", path, e);
+            return false;
+        }
+        replayPath = path;
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player != null) {
+            client.player.sendMessage(Text.literal(MSG_REPLAY_STARTED), true);
+        }
+        LOGGER.info("Camera path replay started: {}", path);
+        return true;
+    }
+
+    /**
+     * Continues the running replay from the given tick.
+     *
+     * @param tick recording tick to seek to
+     * @return true if a replay is running
+     */
+    public static boolean seekReplay(int tick) {
+        if (replayPlayer == null) {
+            return false;
+        }
+        replayPlayer.seek(tick);
+        return true;
+    }
+
+    /**
+     * Stops the running replay, leaving the camera at its last pose.
+     */
+    public static void stopReplay() {
+        if (replayPlayer != null) {
+            replayPlayer.close();
+            replayPlayer = null;
+            replayPath = null;
+            LOGGER.info("Camera path replay stopped");
+        }
+    }
+
+    /**
+     * Checks if a camera path replay is running.
+     *
+     * @return true if the camera is driven by a replay
+     */
+    public static boolean isReplaying() {
+        return replayPlayer != null;
+    }
+
+    /**
+     * Starts recording the camera pose every tick into a camera path file.
+     * Freecam must be enabled; any running recording is finished first.
+     * The file being replayed cannot be recorded over.
+     *
+     * @param path output file, replaced if it exists
+     * @return true if recording started
+     */
+    public static boolean startRecording(Path path) {
+        if (!enabled || cameraEntity == null) {
+            LOGGER.warn("Cannot start recording: freecam is disabled");
+            return false;
+        }
+
+        // Truncating a mapped file under the replay decoder would crash it
+        if (isSameFile(path, replayPath)) {
+            LOGGER.warn("Cannot record to {}: it is being replayed", path);
+            return false;
+        }
+
+        stopRecording();
+        try {
+            pathWriter = new CameraPathWriter(path);
+        } catch (IOException e) {
+            LOGGER.error("Failed to create camera path {}", path, e);
+            return false;
+        }
+
+        recordPath = path;
+        recordTick = 0;
+        LOGGER.info("Camera path recording started: {}", path);
+        return true;
+    }
+
+    /**
+     * Finishes the running recording and writes its index.
+     */
+    public static void stopRecording() {
+        if (pathWriter == null) {
+            return;
+        }
+
+        try {
+            pathWriter.close();
+            LOGGER.info("Camera path recording saved ({} ticks)", recordTick);
+        } catch (IOException e) {
+            LOGGER.error("Failed to finish camera path", e);
+        }
+        pathWriter = null;
+        recordPath = null;
+    }
+
+    /**
+     * Checks if two paths refer to the same file.
+     *
+     * @param path path to check
+     * @param other path in use, or null
+     * @return true if both refer to the same file
+     */
+    private static boolean isSameFile(Path path, Path other) {
+        if (other == null) {
+            return false;
+        }
+
+        try {
+            return Files.isSameFile(path, other);
+        } catch (IOException e) {
+            // One of them does not exist (yet): compare the paths themselves
+            return path.toAbsolutePath().normalize().equals(other.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * Checks if the camera path is being recorded.
+     *
+     * @return true if recording
+     */
+    public static boolean isRecording() {
+        return pathWriter != null;
     }
 
     /**
@@ -160,6 +448,89 @@ public final class FreecamHandler {
         client.player.setPitch(frozenPitch);
     }
 
+    /**
+     * Dispatches the camera pose to listeners.
+     *
+     * @param force dispatch even if the pose is unchanged since the last dispatch
+     */
+    private static void dispatchPose(boolean force) {
+        FreecamListener[] current = listeners;
+        if (current.length == 0 || cameraEntity == null) {
+            return;
+        }
+
+        double x = cameraEntity.getX();
+        double y = cameraEntity.getY();
+        double z = cameraEntity.getZ();
+        float yaw = cameraEntity.getYaw();
+        float pitch = cameraEntity.getPitch();
+
+        if (!force && x == lastPoseX && y == lastPoseY && z == lastPoseZ
+                && yaw == lastPoseYaw && pitch == lastPosePitch) {
+            return;
+        }
+
+        lastPoseX = x;
+        lastPoseY = y;
+        lastPoseZ = z;
+        lastPoseYaw = yaw;
+        lastPosePitch = pitch;
+
+        for (FreecamListener listener : current) {
+            try {
+                listener.onPoseUpdated(x, y, z, yaw, pitch);
+            } catch (RuntimeException e) {
+                LOGGER.error("Freecam listener {} failed in onPoseUpdated", listener, e);
+            }
+        }
+    }
+
+    /**
+     * Registers an API listener.
+     * Exceptions thrown by listener callbacks are logged and do not affect freecam or other listeners.
+     *
+     * @param listener listener to add
+     * @throws IllegalArgumentException if the listener is null
+     */
+    public static synchronized void addListener(FreecamListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+
+        FreecamListener[] current = listeners;
+        FreecamListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregisters an API listener.
+     *
+     * @param listener listener to remove
+     */
+    public static synchronized void removeListener(FreecamListener listener) {
+        FreecamListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                FreecamListener[] updated = new FreecamListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Wakes a dormant camera.
+     * Called on key input while freecam is active.
+     */
+    public static void wake() {
+        if (cameraEntity != null) {
+            cameraEntity.wake();
+        }
+    }
+
     /**
      * Checks if freecam is currently enabled.
      *
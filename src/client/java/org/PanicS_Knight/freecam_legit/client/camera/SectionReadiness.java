@@ -0,0 +1,387 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.PanicS_Knight.freecam_legit.config.ModConfig;
+
+/**
+ * Tracks load and mesh state of chunk sections around the frozen player.
+ * Kept up to date incrementally from chunk load/unload events and anchor moves,
+ * with a small number of pending sections polled for mesh completion each tick.
+ * The camera uses it to avoid flying into terrain that is not ready to render.
+ *
+ * @author PanicS_Knight
+ * @version 1.1
+ */
+public final class SectionReadiness {
+    // Section states (absent from the map means not loaded)
+    private static final byte STATE_LOADED = 1;
+    private static final byte STATE_MESHED = 2;
+
+    // Extra sections tracked beyond the max distance sphere
+    private static final int RANGE_MARGIN = 1;
+
+    // Pending sections checked for mesh completion per tick
+    private static final int MESH_CHECKS_PER_TICK = 32;
+
+    private static final Long2ByteOpenHashMap STATES = new Long2ByteOpenHashMap();
+    private static final LongArrayFIFOQueue PENDING = new LongArrayFIFOQueue();
+    private static final BlockPos.Mutable CHECK_POS = new BlockPos.Mutable();
+
+    private static boolean active = false;
+    private static ClientWorld trackedWorld;
+
+    // Tracked cube: anchor section and radius in sections
+    private static int anchorX;
+    private static int anchorY;
+    private static int anchorZ;
+    private static int range;
+
+    private static int meshedCount;
+
+    private SectionReadiness() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Registers chunk event listeners.
+     * Should be called once during mod initialization.
+     */
+    public static void register() {
+        ClientChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            if (active && world == trackedWorld) {
+                addChunk(chunk);
+                wakeCamera(chunk);
+            }
+        });
+        ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            if (active && world == trackedWorld) {
+                removeChunk(chunk);
+                wakeCamera(chunk);
+            }
+        });
+    }
+
+    /**
+     * Wakes a dormant camera if the changed chunk is next to it.
+     *
+     * @param chunk loaded or unloaded chunk
+     */
+    private static void wakeCamera(WorldChunk chunk) {
+        FreecamEntity camera = FreecamHandler.getCameraEntity();
+        if (camera != null) {
+            camera.wakeIfNear(chunk.getPos().x, chunk.getPos().z);
+        }
+    }
+
+    /**
+     * Updates the tracked area and polls pending sections for mesh completion.
+     * Should be called every tick while freecam is enabled.
+     *
+     * @param client minecraft client instance
+     */
+    public static void tick(MinecraftClient client) {
+        if (client.player == null || client.world == null) {
+            return;
+        }
+
+        // Rebuild when the world or the range changes, shift when the anchor section changes
+        int sectionX = ChunkSectionPos.getSectionCoord(client.player.getBlockX());
+        int sectionY = ChunkSectionPos.getSectionCoord(client.player.getBlockY());
+        int sectionZ = ChunkSectionPos.getSectionCoord(client.player.getBlockZ());
+        int newRange = (ModConfig.getInstance().maxDistance >> 4) + 1 + RANGE_MARGIN;
+
+        if (!active || client.world != trackedWorld || newRange != range) {
+            rebuild(client.world, sectionX, sectionY, sectionZ, newRange);
+        } else if (sectionX != anchorX || sectionY != anchorY || sectionZ != anchorZ) {
+            shift(client.world, sectionX, sectionY, sectionZ);
+        }
+
+        pollMeshes();
+    }
+
+    /**
+     * Stops tracking and releases all state.
+     * Called when freecam is disabled.
+     */
+    public static void reset() {
+        active = false;
+        trackedWorld = null;
+        STATES.clear();
+        PENDING.clear();
+        meshedCount = 0;
+    }
+
+    /**
+     * Re-populates the map from the currently loaded chunks.
+     *
+     * @param world world to track
+     * @param x anchor section X
+     * @param y anchor section Y
+     * @param z anchor section Z
+     * @param newRange tracked radius in sections
+     */
+    private static void rebuild(ClientWorld world, int x, int y, int z, int newRange) {
+        reset();
+        active = true;
+        trackedWorld = world;
+        anchorX = x;
+        anchorY = y;
+        anchorZ = z;
+        range = newRange;
+
+        for (int chunkX = x - range; chunkX <= x + range; chunkX++) {
+            for (int chunkZ = z - range; chunkZ <= z + range; chunkZ++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+                if (chunk != null) {
+                    addChunk(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the tracked cube to a new anchor section.
+     * Only the slabs leaving the cube are dropped and only the slabs entering it are added,
+     * so sections that stay tracked keep their state and are not re-polled.
+     *
+     * @param world tracked world
+     * @param x new anchor section X
+     * @param y new anchor section Y
+     * @param z new anchor section Z
+     */
+    private static void shift(ClientWorld world, int x, int y, int z) {
+        int oldX = anchorX;
+        int oldY = anchorY;
+        int oldZ = anchorZ;
+
+        // Drop sections leaving the cube
+        for (int chunkX = oldX - range; chunkX <= oldX + range; chunkX++) {
+            for (int chunkZ = oldZ - range; chunkZ <= oldZ + range; chunkZ++) {
+                if (Math.abs(chunkX - x) > range || Math.abs(chunkZ - z) > range) {
+                    removeSections(chunkX, chunkZ, oldY - range, oldY + range);
+                } else {
+                    removeSections(chunkX, chunkZ, oldY - range, Math.min(oldY + range, y - range - 1));
+                    removeSections(chunkX, chunkZ, Math.max(oldY - range, y + range + 1), oldY + range);
+                }
+            }
+        }
+
+        anchorX = x;
+        anchorY = y;
+        anchorZ = z;
+
+        // Add sections entering the cube
+        for (int chunkX = x - range; chunkX <= x + range; chunkX++) {
+            for (int chunkZ = z - range; chunkZ <= z + range; chunkZ++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+
+                if (Math.abs(chunkX - oldX) > range || Math.abs(chunkZ - oldZ) > range) {
+                    addSections(chunk, y - range, y + range);
+                } else {
+                    addSections(chunk, y - range, Math.min(y + range, oldY - range - 1));
+                    addSections(chunk, Math.max(y - range, oldY + range + 1), y + range);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the sections of a loaded chunk that fall within the tracked cube.
+     *
+     * @param chunk loaded chunk
+     */
+    private static void addChunk(WorldChunk chunk) {
+        int chunkX = chunk.getPos().x;
+        int chunkZ = chunk.getPos().z;
+        if (Math.abs(chunkX - anchorX) > range || Math.abs(chunkZ - anchorZ) > range) {
+            return;
+        }
+
+        addSections(chunk, anchorY - range, anchorY + range);
+    }
+
+    /**
+     * Adds the sections of a loaded chunk within a vertical range.
+     * Empty sections have nothing to mesh and are ready immediately; the others are checked
+     * right away, so only sections that are not meshed yet wait in the pending queue.
+     *
+     * @param chunk loaded chunk
+     * @param minY lowest section Y to add
+     * @param maxY highest section Y to add
+     */
+    private static void addSections(WorldChunk chunk, int minY, int maxY) {
+        if (minY > maxY) {
+            return;
+        }
+
+        int chunkX = chunk.getPos().x;
+        int chunkZ = chunk.getPos().z;
+        ChunkSection[] sections = chunk.getSectionArray();
+        for (int i = 0; i < sections.length; i++) {
+            int sectionY = chunk.sectionIndexToCoord(i);
+            if (sectionY < minY || sectionY > maxY) {
+                continue;
+            }
+
+            long key = ChunkSectionPos.asLong(chunkX, sectionY, chunkZ);
+            if (sections[i].isEmpty() || isRenderingReady(key)) {
+                putState(key, STATE_MESHED);
+            } else {
+                putState(key, STATE_LOADED);
+                PENDING.enqueue(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all sections of an unloaded chunk.
+     *
+     * @param chunk unloaded chunk
+     */
+    private static void removeChunk(WorldChunk chunk) {
+        int chunkX = chunk.getPos().x;
+        int chunkZ = chunk.getPos().z;
+        if (Math.abs(chunkX - anchorX) > range || Math.abs(chunkZ - anchorZ) > range) {
+            return;
+        }
+
+        removeSections(chunkX, chunkZ, anchorY - range, anchorY + range);
+    }
+
+    /**
+     * Removes the sections of a chunk column within a vertical range.
+     *
+     * @param chunkX chunk X
+     * @param chunkZ chunk Z
+     * @param minY lowest section Y to remove
+     * @param maxY highest section Y to remove
+     */
+    private static void removeSections(int chunkX, int chunkZ, int minY, int maxY) {
+        for (int sectionY = minY; sectionY <= maxY; sectionY++) {
+            if (STATES.remove(ChunkSectionPos.asLong(chunkX, sectionY, chunkZ)) == STATE_MESHED) {
+                meshedCount--;
+            }
+        }
+    }
+
+    /**
+     * Stores a section state, keeping the meshed counter in sync.
+     *
+     * @param key packed section position
+     * @param state new state
+     */
+    private static void putState(long key, byte state) {
+        byte previous = STATES.put(key, state);
+        if (previous == STATE_MESHED) {
+            meshedCount--;
+        }
+        if (state == STATE_MESHED) {
+            meshedCount++;
+        }
+    }
+
+    /**
+     * Checks a bounded number of pending sections for mesh completion.
+     * Sections still waiting are re-queued, removed sections are dropped.
+     */
+    private static void pollMeshes() {
+        int checks = Math.min(MESH_CHECKS_PER_TICK, PENDING.size());
+        for (int i = 0; i < checks; i++) {
+            long key = PENDING.dequeueLong();
+            if (STATES.get(key) != STATE_LOADED) {
+                continue;
+            }
+
+            if (isRenderingReady(key)) {
+                putState(key, STATE_MESHED);
+            } else {
+                PENDING.enqueue(key);
+            }
+        }
+    }
+
+    /**
+     * Checks if the renderer has a mesh for a section.
+     *
+     * @param key packed section position
+     * @return true if the section is ready to render
+     */
+    private static boolean isRenderingReady(long key) {
+        CHECK_POS.set(
+                ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackX(key)) + 8,
+                ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackY(key)) + 8,
+                ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackZ(key)) + 8
+        );
+        return MinecraftClient.getInstance().worldRenderer.isRenderingReady(CHECK_POS);
+    }
+
+    /**
+     * Checks if the section containing a point is loaded and meshed.
+     * Points outside the tracked area or outside world height count as ready.
+     *
+     * @param x world X coordinate
+     * @param y world Y coordinate
+     * @param z world Z coordinate
+     * @return true if the camera may enter the section
+     */
+    public static boolean isReady(double x, double y, double z) {
+        if (!active) {
+            return true;
+        }
+
+        int sectionX = ChunkSectionPos.getSectionCoord(MathHelper.floor(x));
+        int sectionY = ChunkSectionPos.getSectionCoord(MathHelper.floor(y));
+        int sectionZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(z));
+
+        if (Math.abs(sectionX - anchorX) > range || Math.abs(sectionY - anchorY) > range
+                || Math.abs(sectionZ - anchorZ) > range) {
+            return true;
+        }
+
+        if (trackedWorld.isOutOfHeightLimit(MathHelper.floor(y))) {
+            return true;
+        }
+
+        return STATES.get(ChunkSectionPos.asLong(sectionX, sectionY, sectionZ)) == STATE_MESHED;
+    }
+
+    /**
+     * Gets the number of tracked sections that are loaded.
+     *
+     * @return loaded section count
+     */
+    public static int getLoadedCount() {
+        return STATES.size();
+    }
+
+    /**
+     * Gets the number of tracked sections that are loaded and meshed.
+     *
+     * @return ready section count
+     */
+    public static int getReadyCount() {
+        return meshedCount;
+    }
+
+    /**
+     * Gets the share of loaded sections in the tracked area that are ready.
+     *
+     * @return ratio from 0.0 to 1.0, or 1.0 if nothing is tracked
+     */
+    public static float getReadyRatio() {
+        int loaded = STATES.size();
+        return loaded == 0 ? 1.0f : (float) meshedCount / loaded;
+    }
+}
@@ -0,0 +1,184 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+import org.PanicS_Knight.freecam_legit.config.ModConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps freecam work within a per-tick time budget.
+ * Measures time spent in the handler tick and the camera render hooks,
+ * steps down to a cheaper {@link FidelityLevel} while the client is under
+ * pressure and restores full fidelity once headroom returns.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class TickBudgetGovernor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("FreecamLegit/Governor");
+
+    // Frame interval above which the client counts as lagging (20 FPS)
+    private static final long LAG_FRAME_NANOS = 50_000_000L;
+
+    // Smoothing factor for the moving averages
+    private static final double EMA_ALPHA = 0.1;
+
+    // Cost below this share of the budget counts as headroom
+    private static final double HEADROOM_RATIO = 0.5;
+
+    // Consecutive ticks required before changing level (hysteresis)
+    private static final int TICKS_TO_DEGRADE = 10;
+    private static final int TICKS_TO_RESTORE = 100;
+
+    private static FidelityLevel level = FidelityLevel.FULL;
+
+    // Render hook time accumulated since the last tick
+    private static long renderNanos;
+
+    // Moving averages of freecam cost per tick and of frame interval
+    private static double averageCostNanos;
+    private static double averageFrameNanos;
+    private static long lastFrameStart;
+
+    private static int pressureTicks;
+    private static int headroomTicks;
+
+    private TickBudgetGovernor() {
+        throw new UnsupportedOperationException("Governor class cannot be instantiated");
+    }
+
+    /**
+     * Checks if adaptive fidelity is enabled in the configuration.
+     *
+     * @return true if the governor is active
+     */
+    private static boolean isActive() {
+        return ModConfig.getInstance().adaptiveFidelity;
+    }
+
+    /**
+     * Marks the start of a measured section.
+     *
+     * @return timestamp in nanoseconds, or -1 if the governor is inactive
+     */
+    public static long begin() {
+        return isActive() ? System.nanoTime() : -1;
+    }
+
+    /**
+     * Marks the end of a render hook and tracks the frame interval.
+     *
+     * @param start timestamp returned by {@link #begin()}
+     */
+    public static void endFrame(long start) {
+        if (start < 0) {
+            return;
+        }
+
+        renderNanos += System.nanoTime() - start;
+
+        if (lastFrameStart != 0) {
+            averageFrameNanos += (start - lastFrameStart - averageFrameNanos) * EMA_ALPHA;
+        }
+        lastFrameStart = start;
+    }
+
+    /**
+     * Marks the end of a render hook without counting it as a new frame.
+     *
+     * @param start timestamp returned by {@link #begin()}
+     */
+    public static void endRender(long start) {
+        if (start < 0) {
+            return;
+        }
+        renderNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Marks the end of the handler tick and re-evaluates the fidelity level.
+     *
+     * @param start timestamp returned by {@link #begin()}
+     */
+    public static void endTick(long start) {
+        if (start < 0) {
+            if (level != FidelityLevel.FULL) {
+                reset();
+            }
+            return;
+        }
+
+        long cost = System.nanoTime() - start + renderNanos;
+        renderNanos = 0;
+        averageCostNanos += (cost - averageCostNanos) * EMA_ALPHA;
+
+        double budgetNanos = ModConfig.getInstance().tickBudgetMicros * 1000.0;
+        boolean lagging = averageFrameNanos > LAG_FRAME_NANOS;
+
+        if (lagging || averageCostNanos > budgetNanos) {
+            // Under pressure: degrade after a sustained overrun
+            headroomTicks = 0;
+            if (++pressureTicks >= TICKS_TO_DEGRADE) {
+                pressureTicks = 0;
+                setLevel(level.lower());
+            }
+        } else if (averageCostNanos < budgetNanos * HEADROOM_RATIO) {
+            // Headroom: restore after a sustained quiet period
+            pressureTicks = 0;
+            if (++headroomTicks >= TICKS_TO_RESTORE) {
+                headroomTicks = 0;
+                setLevel(level.higher());
+            }
+        } else {
+            pressureTicks = 0;
+            headroomTicks = 0;
+        }
+    }
+
+    /**
+     * Changes the active level, logging transitions.
+     *
+     * @param newLevel level to switch to
+     */
+    private static void setLevel(FidelityLevel newLevel) {
+        if (newLevel == level) {
+            return;
+        }
+        LOGGER.info("Freecam fidelity {} -> {} (cost {} us/tick, frame {} ms)",
+                level, newLevel,
+                Math.round(averageCostNanos / 1000.0),
+                Math.round(averageFrameNanos / 1_000_000.0));
+        level = newLevel;
+    }
+
+    /**
+     * Resets measurements and restores full fidelity.
+     * Called when freecam is toggled.
+     */
+    public static void reset() {
+        level = FidelityLevel.FULL;
+        renderNanos = 0;
+        averageCostNanos = 0;
+        averageFrameNanos = 0;
+        lastFrameStart = 0;
+        pressureTicks = 0;
+        headroomTicks = 0;
+    }
+
+    /**
+     * Gets the currently active fidelity level.
+     *
+     * @return active level
+     */
+    public static FidelityLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the smoothed freecam cost per tick, including render hooks.
+     *
+     * @return average cost in microseconds
+     */
+    public static double getAverageCostMicros() {
+        return averageCostNanos / 1000.0;
+    }
+}
@@ -0,0 +1,138 @@
+package org.PanicS_Knight.freecam_legit.client.debug;
+
+import org.PanicS_Knight.freecam_legit.client.camera.TickBudgetGovernor;
+import org.PanicS_Knight.freecam_legit.config.ModConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Watches heap allocation of freecam in a running client.
+ * Samples whole entry points (the freecam tick and the HUD refresh) with the thread
+ * allocation counter and reports those exceeding their byte budget after warm-up.
+ * Inner hot paths are not hooked; their zero-allocation budgets are enforced by the unit tests.
+ * Disabled unless {@link ModConfig#allocationMonitor} is set, and skipped
+ * while the tick budget governor runs at reduced fidelity.
+ *
+ * @author PanicS_Knight
+ * @version 1.1
+ */
+public final class AllocationMonitor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("FreecamLegit/Alloc");
+
+    // Calls ignored before sampling starts (lets the JIT settle)
+    private static final int WARMUP_CALLS = 400;
+
+    // Calls averaged per reported sample
+    private static final int WINDOW_CALLS = 200;
+
+    /**
+     * Monitored entry points with their per-call byte budgets.
+     * The tick budget only covers the vanilla block collision queries behind {@link
+     * org.PanicS_Knight.freecam_legit.client.camera.CollisionWorld}; freecam code itself allocates nothing.
+     */
+    public enum HotPath {
+        TICK("FreecamHandler.tick", 4096),
+        HUD("FreecamHud status refresh", 256);
+
+        private final String label;
+        private final long budgetBytes;
+
+        HotPath(String label, long budgetBytes) {
+            this.label = label;
+            this.budgetBytes = budgetBytes;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getBudgetBytes() {
+            return budgetBytes;
+        }
+    }
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = resolveThreadBean();
+
+    // Per-path counters, indexed by HotPath ordinal
+    private static final int PATH_COUNT = HotPath.values().length;
+    private static final long[] CALLS = new long[PATH_COUNT];
+    private static final long[] WINDOW_BYTES = new long[PATH_COUNT];
+
+    private AllocationMonitor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Resolves the HotSpot thread bean that exposes allocation counters.
+     *
+     * @return thread bean, or null if allocation measurement is unsupported
+     */
+    private static com.sun.management.ThreadMXBean resolveThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        LOGGER.warn("Thread allocation counters unsupported, allocation monitor disabled");
+        return null;
+    }
+
+    /**
+     * Checks if allocation sampling is currently active.
+     *
+     * @return true if monitoring is enabled and supported
+     */
+    public static boolean isActive() {
+        return THREAD_BEAN != null
+                && ModConfig.getInstance().allocationMonitor
+                && TickBudgetGovernor.getLevel().isAnalyticsEnabled();
+    }
+
+    /**
+     * Marks the start of a measured call.
+     *
+     * @return allocation counter snapshot, or -1 if monitoring is inactive
+     */
+    public static long begin() {
+        if (!isActive()) {
+            return -1;
+        }
+        return THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Marks the end of a measured call and accounts its allocation.
+     *
+     * @param path monitored hot path
+     * @param start snapshot returned by {@link #begin()}
+     */
+    public static void end(HotPath path, long start) {
+        if (start < 0 || THREAD_BEAN == null) {
+            return;
+        }
+
+        long allocated = THREAD_BEAN.getCurrentThreadAllocatedBytes() - start;
+        int index = path.ordinal();
+        long calls = ++CALLS[index];
+
+        // Skip warm-up calls entirely
+        if (calls <= WARMUP_CALLS) {
+            return;
+        }
+
+        WINDOW_BYTES[index] += allocated;
+        if ((calls - WARMUP_CALLS) % WINDOW_CALLS != 0) {
+            return;
+        }
+
+        long average = WINDOW_BYTES[index] / WINDOW_CALLS;
+        WINDOW_BYTES[index] = 0;
+
+        if (average > path.getBudgetBytes()) {
+            LOGGER.warn("{} allocates {} B/call, budget is {} B",
+                    path.getLabel(), average, path.getBudgetBytes());
+        }
+    }
+}
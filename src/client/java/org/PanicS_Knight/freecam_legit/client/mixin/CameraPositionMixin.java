@@ -2,9 +2,11 @@ package org.PanicS_Knight.freecam_legit.client.mixin;
 
 import net.minecraft.client.render.Camera;
 import net.minecraft.entity.Entity;
-import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
 import net.minecraft.world.BlockView;
 import org.PanicS_Knight.freecam_legit.client.camera.FreecamHandler;
+import org.PanicS_Knight.freecam_legit.client.camera.TickBudgetGovernor;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -24,6 +26,10 @@ public abstract class CameraPositionMixin {
     @Unique
     private static final double CAMERA_EYE_OFFSET = 1.62;
 
+    // Reused interpolation buffer (render thread only)
+    @Unique
+    private static final double[] FREECAM_POS = new double[3];
+
     @Shadow
     protected abstract void setPos(double x, double y, double z);
 
@@ -32,7 +38,8 @@ public abstract class CameraPositionMixin {
 
     /**
      * Intercepts camera update to apply freecam position and rotation.
-     * Uses interpolated position for smooth movement between ticks.
+     * Uses interpolated position for smooth movement between ticks, and the
+     * current pose directly while the camera is dormant.
      */
     @Inject(method = "update", at = @At("TAIL"))
     private void onCameraUpdate(BlockView area, Entity focusedEntity, boolean thirdPerson,
@@ -41,15 +48,29 @@ public abstract class CameraPositionMixin {
             return;
         }
 
+        long budgetStart = TickBudgetGovernor.begin();
+        Profiler profiler = Profilers.get();
+        profiler.push("freecam_camera");
+
         var camera = FreecamHandler.getCameraEntity();
 
-        // Get interpolated position for smooth rendering
-        Vec3d pos = camera.getPos(tickDelta);
+        if (camera.isDormant()) {
+            // At rest the previous and current pose match, so skip interpolation
+            setPos(camera.getX(), camera.getY() + CAMERA_EYE_OFFSET, camera.getZ());
+            setRotation(camera.getYaw(), camera.getPitch());
+        } else {
+            // Get interpolated position for smooth rendering
+            double[] pos = FREECAM_POS;
+            camera.getPos(tickDelta, pos);
 
-        // Apply camera position with eye offset
-        setPos(pos.x, pos.y + CAMERA_EYE_OFFSET, pos.z);
+            // Apply camera position with eye offset
+            setPos(pos[0], pos[1] + CAMERA_EYE_OFFSET, pos[2]);
+
+            // Apply camera rotation
+            setRotation(camera.getYaw(tickDelta), camera.getPitch(tickDelta));
+        }
 
-        // Apply camera rotation
-        setRotation(camera.getYaw(), camera.getPitch());
+        profiler.pop();
+        TickBudgetGovernor.endFrame(budgetStart);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package org.PanicS_Knight.freecam_legit.client.mixin;
+
+import net.minecraft.client.Keyboard;
+import org.PanicS_Knight.freecam_legit.client.camera.FreecamHandler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin to wake a dormant freecam on keyboard input.
+ * Lets the camera skip input polling while at rest.
+ *
+ * @author PanicS_Knight
+ */
+@Mixin(Keyboard.class)
+public class KeyboardMixin {
+
+    /**
+     * Wakes the camera on any key press or release while freecam is enabled.
+     */
+    @Inject(method = "onKey", at = @At("HEAD"))
+    private void onKey(long window, int key, int scancode, int action, int modifiers, CallbackInfo ci) {
+        if (FreecamHandler.isEnabled()) {
+            FreecamHandler.wake();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.PanicS_Knight.freecam_legit.client.mixin;
 
 import net.minecraft.client.Mouse;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
 import org.PanicS_Knight.freecam_legit.client.camera.FreecamHandler;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -33,14 +35,21 @@ public class MouseMixin {
             return;
         }
 
-        // Apply mouse delta to freecam camera
-        FreecamHandler.getCameraEntity().changeLookDirection(
-                this.cursorDeltaX,
-                this.cursorDeltaY
-        );
+        Profiler profiler = Profilers.get();
+        profiler.push("freecam_mouse");
+
+        // Apply mouse delta to freecam camera (replay owns the rotation)
+        if (!FreecamHandler.isReplaying()) {
+            FreecamHandler.getCameraEntity().changeLookDirection(
+                    this.cursorDeltaX,
+                    this.cursorDeltaY
+            );
+        }
 
         // Clear delta to prevent player rotation
         this.cursorDeltaX = 0.0;
         this.cursorDeltaY = 0.0;
+
+        profiler.pop();
     }
 }
\ No newline at end of file
@@ -3,12 +3,20 @@ package org.PanicS_Knight.freecam_legit.client.render;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.render.RenderTickCounter;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
+import org.PanicS_Knight.freecam_legit.client.camera.FidelityLevel;
+import org.PanicS_Knight.freecam_legit.client.camera.FreecamEntity;
 import org.PanicS_Knight.freecam_legit.client.camera.FreecamHandler;
+import org.PanicS_Knight.freecam_legit.client.camera.TickBudgetGovernor;
+import org.PanicS_Knight.freecam_legit.client.debug.AllocationMonitor;
 import org.PanicS_Knight.freecam_legit.config.ModConfig;
 
 /**
  * Renders freecam status overlay on the HUD.
  * Displays current distance from player and controls hint.
+ * Status text is cached: it is re-checked at the rate allowed by the active fidelity level
+ * and only re-formatted when the displayed distance or level changes.
  *
  * @author PanicS_Knight
  * @version 1.0
@@ -22,6 +30,13 @@ public final class FreecamHud {
     private static final int COLOR_WHITE = 0xFFFFFF;
     private static final int COLOR_GRAY = 0x888888;
 
+    private static final String HINT_TEXT = "§7V - выключить";
+
+    // Cached status line, refreshed every few frames under load
+    private static final StatusText STATUS = new StatusText();
+    private static int statusWidth;
+    private static int framesSinceRefresh;
+
     private FreecamHud() {
         throw new UnsupportedOperationException("HUD class cannot be instantiated");
     }
@@ -45,18 +60,22 @@ public final class FreecamHud {
             return;
         }
 
-        // Calculate distance from player to camera
-        double distance = FreecamHandler.getCameraEntity()
-                .getPos()
-                .distanceTo(client.player.getPos());
+        long budgetStart = TickBudgetGovernor.begin();
+        Profiler profiler = Profilers.get();
+        profiler.push("freecam_hud");
 
-        // Format status text
-        String statusText = String.format("§e§lFREECAM §r§7(%.1fm)", distance);
-        String hintText = "§7V - выключить";
+        // Re-check status text only when the refresh interval has elapsed
+        FidelityLevel level = TickBudgetGovernor.getLevel();
+        if (STATUS.get() == null || ++framesSinceRefresh >= level.getHudRefreshInterval()) {
+            framesSinceRefresh = 0;
+            refreshStatus(client, level);
+        }
+        String statusText = STATUS.get();
+        String hintText = HINT_TEXT;
 
         // Calculate position (top-right corner)
         int screenWidth = context.getScaledWindowWidth();
-        int statusX = screenWidth - client.textRenderer.getWidth(statusText) - MARGIN;
+        int statusX = screenWidth - statusWidth - MARGIN;
         int hintX = screenWidth - client.textRenderer.getWidth(hintText) - MARGIN;
         int y = MARGIN;
 
@@ -75,5 +94,31 @@ public final class FreecamHud {
                 hintX, y + LINE_HEIGHT,
                 COLOR_GRAY
         );
+
+        profiler.pop();
+        TickBudgetGovernor.endRender(budgetStart);
+    }
+
+    /**
+     * Updates the status line from the current camera distance.
+     * Re-measures the text width only when the line changed.
+     *
+     * @param client minecraft client instance
+     * @param level active fidelity level
+     */
+    private static void refreshStatus(MinecraftClient client, FidelityLevel level) {
+        assert client.player != null;
+        FreecamEntity camera = FreecamHandler.getCameraEntity();
+
+        // Calculate distance from player to camera
+        double dx = camera.getX() - client.player.getX();
+        double dy = camera.getY() - client.player.getY();
+        double dz = camera.getZ() - client.player.getZ();
+
+        long allocStart = AllocationMonitor.begin();
+        if (STATUS.update(Math.sqrt(dx * dx + dy * dy + dz * dz), level)) {
+            statusWidth = client.textRenderer.getWidth(STATUS.get());
+        }
+        AllocationMonitor.end(AllocationMonitor.HotPath.HUD, allocStart);
     }
-}
\ No newline at end of file
+}
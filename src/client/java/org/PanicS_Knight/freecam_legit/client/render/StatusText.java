@@ -0,0 +1,63 @@
+package org.PanicS_Knight.freecam_legit.client.render;
+
+import org.PanicS_Knight.freecam_legit.client.camera.FidelityLevel;
+
+/**
+ * Cached freecam status line shown by {@link FreecamHud}.
+ * Formats into a reused builder and only produces a new string when the
+ * displayed distance or fidelity level changes.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+final class StatusText {
+    private static final String PREFIX = "§e§lFREECAM §r§7(";
+    private static final String SUFFIX = "m)";
+    private static final String LEVEL_PREFIX = " §8[";
+    private static final String LEVEL_SUFFIX = "]";
+
+    private final StringBuilder builder = new StringBuilder(48);
+
+    private String text;
+    private long decimeters;
+    private FidelityLevel level;
+
+    /**
+     * Updates the status line with camera distance and, when degraded, the fidelity level.
+     * Keeps the cached text if neither the displayed distance nor the level changed.
+     *
+     * @param distance camera distance from the player in blocks
+     * @param level active fidelity level
+     * @return true if the text changed
+     */
+    boolean update(double distance, FidelityLevel level) {
+        long rounded = Math.round(distance * 10);
+        if (text != null && rounded == decimeters && level == this.level) {
+            return false;
+        }
+
+        builder.setLength(0);
+        builder.append(PREFIX)
+                .append(rounded / 10)
+                .append('.')
+                .append(Math.abs(rounded % 10))
+                .append(SUFFIX);
+        if (level != FidelityLevel.FULL) {
+            builder.append(LEVEL_PREFIX).append(level.name()).append(LEVEL_SUFFIX);
+        }
+
+        this.text = builder.toString();
+        this.decimeters = rounded;
+        this.level = level;
+        return true;
+    }
+
+    /**
+     * Gets the current status line.
+     *
+     * @return status text, or null before the first update
+     */
+    String get() {
+        return text;
+    }
+}
@@ -0,0 +1,115 @@
+package org.PanicS_Knight.freecam_legit.client.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and primitive codecs of the binary camera path format.
+ *
+ * <pre>
+ * HEADER  int magic, int version
+ * BLOCK*  int sampleCount,
+ *         keyframe: int tick, long x, long y, long z, int yaw, int pitch,
+ *         (sampleCount - 1) deltas: varint dTick, zigzag varint dx, dy, dz, dYaw, dPitch
+ * INDEX   blockCount x (int startTick, long blockOffset)
+ * FOOTER  long indexOffset, int blockCount, int magic
+ * </pre>
+ *
+ * Positions and angles are stored as fixed-point integers. Every block starts
+ * with an absolute keyframe, so seeking costs a binary search over the index
+ * plus decoding at most one block.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class CameraPathFormat {
+    public static final int MAGIC = 0x46435054; // "FCPT"
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 8;
+    public static final int FOOTER_SIZE = 16;
+    public static final int INDEX_ENTRY_SIZE = 12;
+
+    // Samples per block (one keyframe plus deltas)
+    public static final int BLOCK_SAMPLES = 64;
+
+    // Fixed-point scales: 1/1024 block, 1/64 degree
+    public static final double POSITION_SCALE = 1024.0;
+    public static final float ANGLE_SCALE = 64.0f;
+
+    private CameraPathFormat() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Quantises a coordinate to fixed-point.
+     *
+     * @param value coordinate in blocks
+     * @return fixed-point coordinate
+     */
+    public static long quantisePosition(double value) {
+        return Math.round(value * POSITION_SCALE);
+    }
+
+    /**
+     * Quantises an angle to fixed-point.
+     *
+     * @param value angle in degrees
+     * @return fixed-point angle
+     */
+    public static int quantiseAngle(float value) {
+        return Math.round(value * ANGLE_SCALE);
+    }
+
+    /**
+     * Writes a zigzag-encoded variable-length signed integer.
+     *
+     * @param buffer target buffer
+     * @param value value to encode
+     */
+    public static void writeSignedVarLong(ByteBuffer buffer, long value) {
+        writeVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes a variable-length unsigned integer (7 bits per byte).
+     *
+     * @param buffer target buffer
+     * @param value value to encode
+     */
+    public static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads a zigzag-encoded variable-length signed integer.
+     *
+     * @param buffer source buffer
+     * @return decoded value
+     */
+    public static long readSignedVarLong(ByteBuffer buffer) {
+        long raw = readVarLong(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Reads a variable-length unsigned integer.
+     *
+     * @param buffer source buffer
+     * @return decoded value
+     */
+    public static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
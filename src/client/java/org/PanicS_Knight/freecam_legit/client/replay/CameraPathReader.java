@@ -0,0 +1,209 @@
+package org.PanicS_Knight.freecam_legit.client.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential decoder over a memory-mapped {@link CameraPathFormat} file.
+ * The file is mapped once, so decoding reads directly from the page cache
+ * without heap buffers. Not thread-safe; owned by the decoder thread.
+ *
+ * @author PanicS_Knight
+ * @version 1.1
+ */
+public final class CameraPathReader {
+    private final MappedByteBuffer data;
+
+    // Block index loaded from the file tail
+    private final int[] indexTicks;
+    private final long[] indexOffsets;
+    private final long indexOffset;
+
+    // Samples left in the current block
+    private int blockRemaining;
+
+    // Current decoded sample (fixed-point)
+    private int tick;
+    private long x;
+    private long y;
+    private long z;
+    private int yaw;
+    private int pitch;
+
+    /**
+     * Opens and maps a camera path file.
+     *
+     * @param path file to read
+     * @throws IOException if the file cannot be read or is not a valid camera path
+     */
+    public CameraPathReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < CameraPathFormat.HEADER_SIZE + CameraPathFormat.FOOTER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid camera path size: " + size);
+            }
+            this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (data.getInt(0) != CameraPathFormat.MAGIC || data.getInt(4) != CameraPathFormat.VERSION) {
+            throw new IOException("Not a camera path file (version " + CameraPathFormat.VERSION + ")");
+        }
+
+        int footer = data.capacity() - CameraPathFormat.FOOTER_SIZE;
+        this.indexOffset = data.getLong(footer);
+        int blockCount = data.getInt(footer + 8);
+        if (data.getInt(footer + 12) != CameraPathFormat.MAGIC
+                || blockCount < 0
+                || indexOffset < CameraPathFormat.HEADER_SIZE
+                || indexOffset > footer
+                || indexOffset + (long) blockCount * CameraPathFormat.INDEX_ENTRY_SIZE != footer) {
+            throw new IOException("Camera path index is corrupt or the file is truncated");
+        }
+
+        // Every block must start inside the data region, in tick order, so seek and next stay in bounds
+        this.indexTicks = new int[blockCount];
+        this.indexOffsets = new long[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            int entry = (int) indexOffset + i * CameraPathFormat.INDEX_ENTRY_SIZE;
+            indexTicks[i] = data.getInt(entry);
+            indexOffsets[i] = data.getLong(entry + 4);
+            if (indexOffsets[i] < CameraPathFormat.HEADER_SIZE || indexOffsets[i] >= indexOffset) {
+                throw new IOException("Camera path block " + i + " starts outside the data region");
+            }
+            if (i > 0 && indexTicks[i] < indexTicks[i - 1]) {
+                throw new IOException("Camera path block " + i + " is out of tick order");
+            }
+        }
+
+        seek(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Positions the reader at the start of the block containing the given tick.
+     * The next decoded sample is at or before the requested tick.
+     *
+     * @param targetTick tick to seek to
+     */
+    public void seek(int targetTick) {
+        blockRemaining = 0;
+        if (indexTicks.length == 0) {
+            data.position((int) indexOffset);
+            return;
+        }
+
+        // Binary search for the last block starting at or before the target
+        int low = 0;
+        int high = indexTicks.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (indexTicks[mid] <= targetTick) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        data.position((int) indexOffsets[low]);
+    }
+
+    /**
+     * Decodes the next sample.
+     *
+     * @return true if a sample was decoded, false at end of file
+     */
+    public boolean next() {
+        ByteBuffer buffer = data;
+
+        if (blockRemaining == 0) {
+            if (buffer.position() >= indexOffset) {
+                return false;
+            }
+
+            // Keyframe: absolute values
+            blockRemaining = buffer.getInt();
+            tick = buffer.getInt();
+            x = buffer.getLong();
+            y = buffer.getLong();
+            z = buffer.getLong();
+            yaw = buffer.getInt();
+            pitch = buffer.getInt();
+        } else {
+            tick += (int) CameraPathFormat.readVarLong(buffer);
+            x += CameraPathFormat.readSignedVarLong(buffer);
+            y += CameraPathFormat.readSignedVarLong(buffer);
+            z += CameraPathFormat.readSignedVarLong(buffer);
+            yaw += (int) CameraPathFormat.readSignedVarLong(buffer);
+            pitch += (int) CameraPathFormat.readSignedVarLong(buffer);
+        }
+
+        blockRemaining--;
+        return true;
+    }
+
+    /**
+     * Gets the tick of the first sample.
+     *
+     * @return first tick, or 0 if the file is empty
+     */
+    public int getFirstTick() {
+        return indexTicks.length == 0 ? 0 : indexTicks[0];
+    }
+
+    /**
+     * Gets the tick of the current sample.
+     *
+     * @return sample tick
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the X position of the current sample.
+     *
+     * @return X position in blocks
+     */
+    public double getX() {
+        return x / CameraPathFormat.POSITION_SCALE;
+    }
+
+    /**
+     * Gets the Y position of the current sample.
+     *
+     * @return Y position in blocks
+     */
+    public double getY() {
+        return y / CameraPathFormat.POSITION_SCALE;
+    }
+
+    /**
+     * Gets the Z position of the current sample.
+     *
+     * @return Z position in blocks
+     */
+    public double getZ() {
+        return z / CameraPathFormat.POSITION_SCALE;
+    }
+
+    /**
+     * Gets the yaw of the current sample.
+     *
+     * @return yaw in degrees
+     */
+    public float getYaw() {
+        return yaw / CameraPathFormat.ANGLE_SCALE;
+    }
+
+    /**
+     * Gets the pitch of the current sample.
+     *
+     * @return pitch in degrees
+     */
+    public float getPitch() {
+        return pitch / CameraPathFormat.ANGLE_SCALE;
+    }
+}
@@ -0,0 +1,174 @@
+package org.PanicS_Knight.freecam_legit.client.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Records camera poses into a {@link CameraPathFormat} file.
+ * Samples are encoded block by block into a reusable buffer; the block index
+ * is kept in memory and written with the footer on {@link #close()}.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class CameraPathWriter implements Closeable {
+    // Worst case: sample count + keyframe, then 6 varints of up to 10 bytes per delta
+    private static final int BLOCK_BUFFER_SIZE = 4 + 36 + (CameraPathFormat.BLOCK_SAMPLES - 1) * 60;
+
+    private final FileChannel channel;
+    private final ByteBuffer blockBuffer = ByteBuffer.allocate(BLOCK_BUFFER_SIZE);
+
+    // Block index, grown as blocks are written
+    private int[] indexTicks = new int[64];
+    private long[] indexOffsets = new long[64];
+    private int blockCount;
+
+    private long fileOffset;
+    private int blockSamples;
+
+    // Last written sample (fixed-point) for delta encoding
+    private int lastTick;
+    private long lastX;
+    private long lastY;
+    private long lastZ;
+    private int lastYaw;
+    private int lastPitch;
+
+    /**
+     * Creates a writer, replacing any existing file.
+     *
+     * @param path output file
+     * @throws IOException if the file cannot be created
+     */
+    public CameraPathWriter(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(CameraPathFormat.HEADER_SIZE);
+        header.putInt(CameraPathFormat.MAGIC).putInt(CameraPathFormat.VERSION).flip();
+        writeFully(header);
+    }
+
+    /**
+     * Appends a sample. Ticks must be strictly increasing.
+     *
+     * @param tick sample timestamp in client ticks
+     * @param x camera X position
+     * @param y camera Y position
+     * @param z camera Z position
+     * @param yaw camera yaw in degrees
+     * @param pitch camera pitch in degrees
+     * @throws IOException if a completed block cannot be written
+     */
+    public void write(int tick, double x, double y, double z, float yaw, float pitch) throws IOException {
+        if (blockSamples > 0 && tick <= lastTick) {
+            throw new IllegalArgumentException("Sample ticks must be increasing");
+        }
+
+        long qx = CameraPathFormat.quantisePosition(x);
+        long qy = CameraPathFormat.quantisePosition(y);
+        long qz = CameraPathFormat.quantisePosition(z);
+        int qYaw = CameraPathFormat.quantiseAngle(yaw);
+        int qPitch = CameraPathFormat.quantiseAngle(pitch);
+
+        if (blockSamples == 0) {
+            // Keyframe: absolute values, sample count patched on flush
+            addIndexEntry(tick, fileOffset);
+            blockBuffer.clear();
+            blockBuffer.putInt(0);
+            blockBuffer.putInt(tick).putLong(qx).putLong(qy).putLong(qz).putInt(qYaw).putInt(qPitch);
+        } else {
+            CameraPathFormat.writeVarLong(blockBuffer, tick - lastTick);
+            CameraPathFormat.writeSignedVarLong(blockBuffer, qx - lastX);
+            CameraPathFormat.writeSignedVarLong(blockBuffer, qy - lastY);
+            CameraPathFormat.writeSignedVarLong(blockBuffer, qz - lastZ);
+            CameraPathFormat.writeSignedVarLong(blockBuffer, qYaw - lastYaw);
+            CameraPathFormat.writeSignedVarLong(blockBuffer, qPitch - lastPitch);
+        }
+
+        lastTick = tick;
+        lastX = qx;
+        lastY = qy;
+        lastZ = qz;
+        lastYaw = qYaw;
+        lastPitch = qPitch;
+
+        if (++blockSamples == CameraPathFormat.BLOCK_SAMPLES) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Writes the pending block, if any.
+     *
+     * @throws IOException if writing fails
+     */
+    private void flushBlock() throws IOException {
+        if (blockSamples == 0) {
+            return;
+        }
+
+        blockBuffer.putInt(0, blockSamples);
+        blockBuffer.flip();
+        writeFully(blockBuffer);
+        blockSamples = 0;
+    }
+
+    /**
+     * Records the start tick and offset of a new block.
+     *
+     * @param tick block start tick
+     * @param offset block file offset
+     */
+    private void addIndexEntry(int tick, long offset) {
+        if (blockCount == indexTicks.length) {
+            indexTicks = Arrays.copyOf(indexTicks, blockCount * 2);
+            indexOffsets = Arrays.copyOf(indexOffsets, blockCount * 2);
+        }
+        indexTicks[blockCount] = tick;
+        indexOffsets[blockCount] = offset;
+        blockCount++;
+    }
+
+    /**
+     * Writes the whole buffer to the file.
+     *
+     * @param buffer buffer to write
+     * @throws IOException if writing fails
+     */
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            fileOffset += channel.write(buffer);
+        }
+    }
+
+    /**
+     * Flushes the last block, writes the index and footer, and closes the file.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBlock();
+
+            long indexOffset = fileOffset;
+            ByteBuffer tail = ByteBuffer.allocate(
+                    blockCount * CameraPathFormat.INDEX_ENTRY_SIZE + CameraPathFormat.FOOTER_SIZE);
+            for (int i = 0; i < blockCount; i++) {
+                tail.putInt(indexTicks[i]).putLong(indexOffsets[i]);
+            }
+            tail.putLong(indexOffset).putInt(blockCount).putInt(CameraPathFormat.MAGIC).flip();
+            writeFully(tail);
+        } finally {
+            channel.close();
+        }
+    }
+}
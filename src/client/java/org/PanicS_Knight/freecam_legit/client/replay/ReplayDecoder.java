@@ -0,0 +1,262 @@
+package org.PanicS_Knight.freecam_legit.client.replay;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decodes a camera path ahead of playback on a background thread.
+ * Samples go into a fixed-size single-producer/single-consumer ring buffer,
+ * so heap use stays constant regardless of replay length.
+ * Seeks are tagged with an epoch; the consumer drops samples decoded for an
+ * older epoch, so neither side ever writes the other's index.
+ * While the buffer is full or the path is exhausted the producer parks until
+ * the consumer frees a slot, seeks or closes the decoder.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class ReplayDecoder implements Runnable, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger("FreecamLegit/Replay");
+
+    // Ring buffer capacity in samples (power of two)
+    private static final int CAPACITY = 256;
+    private static final int MASK = CAPACITY - 1;
+
+    private final CameraPathReader reader;
+    private final Thread thread;
+
+    // Ring buffer slots
+    private final int[] epochs = new int[CAPACITY];
+    private final int[] ticks = new int[CAPACITY];
+    private final double[] xs = new double[CAPACITY];
+    private final double[] ys = new double[CAPACITY];
+    private final double[] zs = new double[CAPACITY];
+    private final float[] yaws = new float[CAPACITY];
+    private final float[] pitches = new float[CAPACITY];
+
+    // Written only by the producer / only by the consumer respectively
+    private volatile long writeIndex;
+    private volatile long readIndex;
+
+    // Seek requests from the consumer
+    private volatile int epoch;
+    private volatile int seekTick;
+
+    // Last epoch for which the producer reached end of file
+    private volatile int finishedEpoch = -1;
+
+    // Set when decoding failed; playback ends for every epoch
+    private volatile boolean failed;
+
+    // Set by the producer before parking, tells the consumer to unpark it
+    private volatile boolean producerWaiting;
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a decoder and starts its background thread.
+     *
+     * @param reader camera path reader, owned by the decoder from now on
+     */
+    public ReplayDecoder(CameraPathReader reader) {
+        this.reader = reader;
+        this.seekTick = reader.getFirstTick();
+        this.thread = new Thread(this, "Freecam Replay Decoder");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Decoder loop: applies seeks and fills the ring buffer until closed.
+     */
+    @Override
+    public void run() {
+        int producerEpoch = -1;
+
+        try {
+            while (running) {
+                // Apply pending seek
+                int currentEpoch = epoch;
+                if (currentEpoch != producerEpoch) {
+                    producerEpoch = currentEpoch;
+                    reader.seek(seekTick);
+                }
+
+                if (isIdle(producerEpoch)) {
+                    // Announce the wait first, then re-check, so a wake-up cannot be missed
+                    producerWaiting = true;
+                    if (running && isIdle(producerEpoch)) {
+                        LockSupport.park(this);
+                    }
+                    producerWaiting = false;
+                    continue;
+                }
+
+                if (!reader.next()) {
+                    finishedEpoch = producerEpoch;
+                    continue;
+                }
+
+                int slot = (int) (writeIndex & MASK);
+                epochs[slot] = producerEpoch;
+                ticks[slot] = reader.getTick();
+                xs[slot] = reader.getX();
+                ys[slot] = reader.getY();
+                zs[slot] = reader.getZ();
+                yaws[slot] = reader.getYaw();
+                pitches[slot] = reader.getPitch();
+
+                // Publish the slot
+                writeIndex = writeIndex + 1;
+            }
+        } catch (Throwable e) {
+            LOGGER.error("Camera path decoding failed", e);
+            failed = true;
+            finishedEpoch = epoch;
+            running = false;
+        }
+    }
+
+    /**
+     * Checks if the producer has nothing to do until the consumer acts.
+     *
+     * @param producerEpoch epoch the producer is decoding for
+     * @return true if the buffer is full or the path is exhausted, and no seek is pending
+     */
+    private boolean isIdle(int producerEpoch) {
+        return epoch == producerEpoch
+                && (finishedEpoch == producerEpoch || writeIndex - readIndex >= CAPACITY);
+    }
+
+    /**
+     * Wakes the producer if it is parked.
+     */
+    private void wakeProducer() {
+        if (producerWaiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Requests playback to continue from the given tick.
+     * Called from the consumer thread.
+     *
+     * @param tick tick to seek to
+     */
+    public void seek(int tick) {
+        seekTick = tick;
+        epoch = epoch + 1;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Checks if a sample for the current epoch is available, dropping stale ones.
+     * Called from the consumer thread.
+     *
+     * @return true if {@link #peekTick()} and the other accessors are valid
+     */
+    public boolean hasSample() {
+        int currentEpoch = epoch;
+        long read = readIndex;
+        while (read < writeIndex) {
+            if (epochs[(int) (read & MASK)] == currentEpoch) {
+                if (read != readIndex) {
+                    readIndex = read;
+                    wakeProducer();
+                }
+                return true;
+            }
+            read++;
+        }
+
+        // Dropped stale samples free slots for the producer
+        if (read != readIndex) {
+            readIndex = read;
+            wakeProducer();
+        }
+        return false;
+    }
+
+    /**
+     * Releases the sample returned by the peek accessors.
+     * Called from the consumer thread after {@link #hasSample()} returned true.
+     */
+    public void consume() {
+        readIndex = readIndex + 1;
+        wakeProducer();
+    }
+
+    /**
+     * Checks if the whole path has been played for the current epoch.
+     *
+     * @return true if the decoder reached end of file or failed, and the buffer is drained
+     */
+    public boolean isFinished() {
+        return (failed || finishedEpoch == epoch) && !hasSample();
+    }
+
+    /**
+     * Gets the tick of the sample at the read position.
+     *
+     * @return sample tick
+     */
+    public int peekTick() {
+        return ticks[(int) (readIndex & MASK)];
+    }
+
+    /**
+     * Gets the X position of the sample at the read position.
+     *
+     * @return X position in blocks
+     */
+    public double peekX() {
+        return xs[(int) (readIndex & MASK)];
+    }
+
+    /**
+     * Gets the Y position of the sample at the read position.
+     *
+     * @return Y position in blocks
+     */
+    public double peekY() {
+        return ys[(int) (readIndex & MASK)];
+    }
+
+    /**
+     * Gets the Z position of the sample at the read position.
+     *
+     * @return Z position in blocks
+     */
+    public double peekZ() {
+        return zs[(int) (readIndex & MASK)];
+    }
+
+    /**
+     * Gets the yaw of the sample at the read position.
+     *
+     * @return yaw in degrees
+     */
+    public float peekYaw() {
+        return yaws[(int) (readIndex & MASK)];
+    }
+
+    /**
+     * Gets the pitch of the sample at the read position.
+     *
+     * @return pitch in degrees
+     */
+    public float peekPitch() {
+        return pitches[(int) (readIndex & MASK)];
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+}
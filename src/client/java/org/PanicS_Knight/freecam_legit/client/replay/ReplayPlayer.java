@@ -0,0 +1,185 @@
+package org.PanicS_Knight.freecam_legit.client.replay;
+
+import net.minecraft.util.math.MathHelper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays back a camera path one client tick at a time.
+ * Pulls decoded samples from a {@link ReplayDecoder} and interpolates between
+ * the samples surrounding the current playback tick. Client thread only.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class ReplayPlayer implements AutoCloseable {
+    private final ReplayDecoder decoder;
+
+    private int playTick;
+
+    // Last sample at or before the playback tick
+    private boolean hasSample;
+    private int sampleTick;
+    private double sampleX;
+    private double sampleY;
+    private double sampleZ;
+    private float sampleYaw;
+    private float samplePitch;
+
+    // Pose for the current playback tick
+    private double x;
+    private double y;
+    private double z;
+    private float yaw;
+    private float pitch;
+
+    private ReplayPlayer(CameraPathReader reader) {
+        this.playTick = reader.getFirstTick();
+        this.decoder = new ReplayDecoder(reader);
+    }
+
+    /**
+     * Opens a camera path file and starts decoding it.
+     *
+     * @param path camera path file
+     * @return player positioned at the first sample
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    public static ReplayPlayer open(Path path) throws IOException {
+        return new ReplayPlayer(new CameraPathReader(path));
+    }
+
+    /**
+     * Advances playback by one tick and computes the pose for it.
+     * Holds the last pose if the decoder has fallen behind.
+     *
+     * @return false once the end of the path has been played
+     */
+    public boolean advance() {
+        if (hasSample && playTick > sampleTick && decoder.isFinished()) {
+            return false;
+        }
+
+        // Consume every sample up to the playback tick
+        while (decoder.hasSample() && decoder.peekTick() <= playTick) {
+            hasSample = true;
+            sampleTick = decoder.peekTick();
+            sampleX = decoder.peekX();
+            sampleY = decoder.peekY();
+            sampleZ = decoder.peekZ();
+            sampleYaw = decoder.peekYaw();
+            samplePitch = decoder.peekPitch();
+            decoder.consume();
+        }
+
+        if (!hasSample) {
+            // Before the first sample: run the clock only once decoded data is available
+            if (decoder.hasSample()) {
+                playTick++;
+            }
+            return !decoder.isFinished();
+        }
+
+        x = sampleX;
+        y = sampleY;
+        z = sampleZ;
+        yaw = sampleYaw;
+        pitch = samplePitch;
+
+        // Interpolate towards the next sample across gaps in the recording
+        if (playTick > sampleTick && decoder.hasSample()) {
+            float delta = (float) (playTick - sampleTick) / (decoder.peekTick() - sampleTick);
+            x = MathHelper.lerp(delta, sampleX, decoder.peekX());
+            y = MathHelper.lerp(delta, sampleY, decoder.peekY());
+            z = MathHelper.lerp(delta, sampleZ, decoder.peekZ());
+            yaw = MathHelper.lerp(delta, sampleYaw, decoder.peekYaw());
+            pitch = MathHelper.lerp(delta, samplePitch, decoder.peekPitch());
+        }
+
+        playTick++;
+        return true;
+    }
+
+    /**
+     * Continues playback from the given tick.
+     *
+     * @param tick tick to seek to
+     */
+    public void seek(int tick) {
+        decoder.seek(tick);
+        playTick = tick;
+        hasSample = false;
+    }
+
+    /**
+     * Checks if a pose is available for the current tick.
+     *
+     * @return true if the pose getters are valid
+     */
+    public boolean hasPose() {
+        return hasSample;
+    }
+
+    /**
+     * Gets the current playback tick.
+     *
+     * @return playback tick
+     */
+    public int getPlayTick() {
+        return playTick;
+    }
+
+    /**
+     * Gets the X position for the current tick.
+     *
+     * @return X position in blocks
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y position for the current tick.
+     *
+     * @return Y position in blocks
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the Z position for the current tick.
+     *
+     * @return Z position in blocks
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Gets the yaw for the current tick.
+     *
+     * @return yaw in degrees
+     */
+    public float getYaw() {
+        return yaw;
+    }
+
+    /**
+     * Gets the pitch for the current tick.
+     *
+     * @return pitch in degrees
+     */
+    public float getPitch() {
+        return pitch;
+    }
+
+    /**
+     * Stops the decoder thread.
+     */
+    @Override
+    public void close() {
+        decoder.close();
+    }
+}
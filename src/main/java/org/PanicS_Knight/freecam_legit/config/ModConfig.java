@@ -30,6 +30,9 @@ public class ModConfig {
     private static final float DEFAULT_MOUSE_SENSITIVITY = 1.0f;
     private static final int DEFAULT_MAX_DISTANCE = 12;
     private static final boolean DEFAULT_SHOW_OVERLAY = true;
+    private static final boolean DEFAULT_ALLOCATION_MONITOR = false;
+    private static final boolean DEFAULT_ADAPTIVE_FIDELITY = true;
+    private static final int DEFAULT_TICK_BUDGET_MICROS = 1000;
 
     // Configuration fields
     public float moveSpeed = DEFAULT_MOVE_SPEED;
@@ -37,6 +40,9 @@ public class ModConfig {
     public float mouseSensitivity = DEFAULT_MOUSE_SENSITIVITY;
     public int maxDistance = DEFAULT_MAX_DISTANCE;
     public boolean showOverlay = DEFAULT_SHOW_OVERLAY;
+    public boolean allocationMonitor = DEFAULT_ALLOCATION_MONITOR;
+    public boolean adaptiveFidelity = DEFAULT_ADAPTIVE_FIDELITY;
+    public int tickBudgetMicros = DEFAULT_TICK_BUDGET_MICROS;
 
     private static ModConfig instance;
 
@@ -112,5 +118,6 @@ public class ModConfig {
         sprintMultiplier = Math.max(1.0f, Math.min(10.0f, sprintMultiplier));
         mouseSensitivity = Math.max(0.1f, Math.min(3.0f, mouseSensitivity));
         maxDistance = Math.max(1, Math.min(64, maxDistance));
+        tickBudgetMicros = Math.max(50, Math.min(20000, tickBudgetMicros));
     }
 }
\ No newline at end of file
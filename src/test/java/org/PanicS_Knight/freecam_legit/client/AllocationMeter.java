@@ -0,0 +1,76 @@
+package org.PanicS_Knight.freecam_legit.client;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures heap allocation of a code path with the thread allocation counter.
+ * The path is warmed up first so the JIT has compiled it, then run in a loop;
+ * the result is the average number of bytes allocated per iteration.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+public final class AllocationMeter {
+    // Iterations run before measuring (lets the JIT settle)
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    // Iterations averaged per measurement
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = resolveThreadBean();
+
+    private AllocationMeter() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Resolves the HotSpot thread bean that exposes allocation counters.
+     *
+     * @return thread bean, or null if allocation measurement is unsupported
+     */
+    private static com.sun.management.ThreadMXBean resolveThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Measures the average allocation of one iteration of a code path.
+     * Rounds down, so one-off allocations by the runtime during the loop do not count.
+     *
+     * @param iteration code path to measure
+     * @return bytes allocated per iteration
+     */
+    public static long bytesPerIteration(Runnable iteration) {
+        assumeTrue(THREAD_BEAN != null, "Thread allocation counters unsupported");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iteration.run();
+        }
+
+        long start = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            iteration.run();
+        }
+        return (THREAD_BEAN.getCurrentThreadAllocatedBytes() - start) / MEASURED_ITERATIONS;
+    }
+
+    /**
+     * Fails if a code path allocates more than its budget per iteration.
+     *
+     * @param label code path name for the failure message
+     * @param budgetBytes allowed bytes per iteration
+     * @param iteration code path to measure
+     */
+    public static void assertWithinBudget(String label, long budgetBytes, Runnable iteration) {
+        long allocated = bytesPerIteration(iteration);
+        assertTrue(allocated <= budgetBytes,
+                () -> label + " allocates " + allocated + " B/iteration, budget is " + budgetBytes + " B");
+    }
+}
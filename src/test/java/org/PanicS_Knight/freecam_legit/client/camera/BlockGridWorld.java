@@ -0,0 +1,81 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+/**
+ * Stand-in world for collision tests: full solid blocks in a fixed grid around the origin.
+ * Queries do not allocate, so allocation budgets only measure the code under test.
+ *
+ * @author PanicS_Knight
+ * @version 1.0
+ */
+final class BlockGridWorld implements CollisionWorld {
+    // Grid spans [-HALF_SIZE, HALF_SIZE) on every axis; everything outside is air
+    private static final int HALF_SIZE = 64;
+    private static final int SIZE = HALF_SIZE * 2;
+
+    private final boolean[] solid = new boolean[SIZE * SIZE * SIZE];
+
+    /**
+     * Fills a cuboid of blocks, bounds inclusive.
+     *
+     * @param minX minimum block X
+     * @param minY minimum block Y
+     * @param minZ minimum block Z
+     * @param maxX maximum block X
+     * @param maxY maximum block Y
+     * @param maxZ maximum block Z
+     * @return this world
+     */
+    BlockGridWorld fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    solid[index(x, y, z)] = true;
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isSpaceEmpty(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        // Blocks overlapping the box interior; touching faces do not collide
+        for (int x = (int) Math.floor(minX); x < Math.ceil(maxX); x++) {
+            for (int y = (int) Math.floor(minY); y < Math.ceil(maxY); y++) {
+                for (int z = (int) Math.floor(minZ); z < Math.ceil(maxZ); z++) {
+                    if (isSolid(x, y, z)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a block is solid.
+     *
+     * @param x block X
+     * @param y block Y
+     * @param z block Z
+     * @return true if solid
+     */
+    private boolean isSolid(int x, int y, int z) {
+        if (x < -HALF_SIZE || y < -HALF_SIZE || z < -HALF_SIZE
+                || x >= HALF_SIZE || y >= HALF_SIZE || z >= HALF_SIZE) {
+            return false;
+        }
+        return solid[index(x, y, z)];
+    }
+
+    /**
+     * Gets the grid index of a block inside the grid.
+     *
+     * @param x block X
+     * @param y block Y
+     * @param z block Z
+     * @return array index
+     */
+    private static int index(int x, int y, int z) {
+        return ((x + HALF_SIZE) * SIZE + (y + HALF_SIZE)) * SIZE + (z + HALF_SIZE);
+    }
+}
@@ -0,0 +1,151 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+import org.PanicS_Knight.freecam_legit.client.AllocationMeter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CameraMotionTest {
+    private static final float SPEED = 1.0f;
+    private static final double MAX_DISTANCE = 16.0;
+    private static final double STEP = FidelityLevel.FULL.getMaxCollisionStep();
+    private static final double EPSILON = 1.0E-9;
+
+    /**
+     * Runs one movement tick, anchored at the origin.
+     */
+    private static void tick(CameraMotion motion, float forward, float strafe, float vertical, float yaw) {
+        motion.tick(forward, strafe, vertical, SPEED, yaw, STEP, 0, 0, 0, MAX_DISTANCE);
+    }
+
+    private static CameraMotion createMotion(BlockGridWorld world) {
+        return new CameraMotion(world, (x, y, z) -> true, 0.5, 0, 0.5);
+    }
+
+    @Test
+    void forwardFollowsYaw() {
+        CameraMotion motion = createMotion(new BlockGridWorld());
+        for (int i = 0; i < 5; i++) {
+            tick(motion, 1, 0, 0, 0);
+        }
+
+        // Yaw 0 looks towards +Z
+        assertTrue(motion.getZ() > 3, "camera did not move forward: z=" + motion.getZ());
+        assertEquals(0.5, motion.getX(), 1.0E-6);
+        assertEquals(0.0, motion.getY(), EPSILON);
+    }
+
+    @Test
+    void staysInsideSphere() {
+        CameraMotion motion = createMotion(new BlockGridWorld());
+        for (int i = 0; i < 100; i++) {
+            tick(motion, 1, 0, 1, 45);
+        }
+
+        double x = motion.getX();
+        double y = motion.getY();
+        double z = motion.getZ();
+        assertTrue(Math.sqrt(x * x + y * y + z * z) <= MAX_DISTANCE + EPSILON);
+    }
+
+    @Test
+    void comesToRestWithoutInput() {
+        CameraMotion motion = createMotion(new BlockGridWorld());
+        tick(motion, 1, 0, 0, 0);
+        assertFalse(motion.isAtRest());
+
+        for (int i = 0; i < 40; i++) {
+            tick(motion, 0, 0, 0, 0);
+        }
+        assertTrue(motion.isAtRest());
+    }
+
+    @Test
+    void interpolatesBetweenTicks() {
+        CameraMotion motion = createMotion(new BlockGridWorld());
+        tick(motion, 0, 0, 1, 0);
+
+        double[] pos = new double[3];
+        motion.getPos(0.5f, pos);
+        assertEquals(0.25, pos[1], EPSILON);
+        motion.getPos(1.0f, pos);
+        assertEquals(motion.getY(), pos[1], EPSILON);
+    }
+
+    @Test
+    void stopsAtTerrainThatIsNotReady() {
+        // Sections from x=16 on are not meshed yet
+        CameraMotion motion = new CameraMotion(new BlockGridWorld(), (x, y, z) -> x < 16, -8, 0, 0.5);
+        for (int i = 0; i < 40; i++) {
+            tick(motion, -1, 0, 0, 90);
+        }
+
+        assertTrue(motion.getX() < 16, "camera entered terrain that is not ready: x=" + motion.getX());
+        assertTrue(motion.getX() > 14, "camera stopped early: x=" + motion.getX());
+    }
+
+    @Test
+    void leavesTerrainThatIsNotReadyOnlyTowardsReadySections() {
+        // Camera is in the not-ready section spanning x=0..16
+        CameraMotion deeper = new CameraMotion(new BlockGridWorld(), (x, y, z) -> x < 0, 8, 0, 0.5);
+        tick(deeper, -1, 0, 0, 90);
+        assertEquals(8.0, deeper.getX(), EPSILON);
+
+        CameraMotion back = new CameraMotion(new BlockGridWorld(), (x, y, z) -> x < 0, 8, 0, 0.5);
+        tick(back, 1, 0, 0, 90);
+        assertTrue(back.getX() < 8, "camera could not leave towards ready terrain: x=" + back.getX());
+    }
+
+    @Test
+    void poseRequestDoesNotTunnel() {
+        BlockGridWorld world = new BlockGridWorld().fill(3, -4, -4, 3, 4, 4);
+        CameraMotion motion = new CameraMotion(world, (x, y, z) -> true, -60, 0, 0.5);
+        motion.moveTowards(60, 0, 0.5, 0, 0, 0, 64, STEP);
+
+        assertTrue(motion.getX() + CameraMotion.CAMERA_WIDTH / 2 <= 3,
+                "camera passed through the wall to x=" + motion.getX());
+    }
+
+    @Test
+    void poseRequestStopsAtTerrainThatIsNotReady() {
+        // Sections from x=16 on are not meshed yet
+        CameraMotion motion = new CameraMotion(new BlockGridWorld(), (x, y, z) -> x < 16, 0.5, 0, 0.5);
+        motion.moveTowards(40, 0, 0.5, 0, 0, 0, 64, STEP);
+
+        assertTrue(motion.getX() < 16, "pose request jumped into terrain that is not ready: x=" + motion.getX());
+        assertTrue(motion.getX() > 15, "pose request stopped early: x=" + motion.getX());
+    }
+
+    @Test
+    void poseRequestStaysInsideSphere() {
+        CameraMotion motion = createMotion(new BlockGridWorld());
+        motion.moveTowards(1000, 0, 0, 0, 0, 0, MAX_DISTANCE, STEP);
+
+        assertEquals(MAX_DISTANCE, motion.getX(), 1.0E-6);
+    }
+
+    @Test
+    void tickDoesNotAllocate() {
+        BlockGridWorld world = new BlockGridWorld().fill(6, -4, -8, 6, 4, 8);
+        CameraMotion motion = createMotion(world);
+        int[] counter = new int[1];
+
+        AllocationMeter.assertWithinBudget("CameraMotion.tick", 0, () -> {
+            // Fly back and forth against the wall and the sphere
+            int phase = counter[0]++ & 63;
+            tick(motion, phase < 32 ? 1 : -1, phase & 1, phase < 16 ? 1 : 0, -90);
+        });
+    }
+
+    @Test
+    void getPosDoesNotAllocate() {
+        CameraMotion motion = createMotion(new BlockGridWorld());
+        tick(motion, 1, 1, 1, 30);
+        double[] pos = new double[3];
+
+        AllocationMeter.assertWithinBudget("FreecamEntity.getPos(tickDelta)", 0,
+                () -> motion.getPos(0.37f, pos));
+    }
+}
@@ -0,0 +1,84 @@
+package org.PanicS_Knight.freecam_legit.client.camera;
+
+import org.PanicS_Knight.freecam_legit.client.AllocationMeter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollisionHelperTest {
+    private static final double WIDTH = CameraMotion.CAMERA_WIDTH;
+    private static final double HEIGHT = CameraMotion.CAMERA_HEIGHT;
+    private static final double STEP = FidelityLevel.FULL.getMaxCollisionStep();
+    private static final double EPSILON = 1.0E-9;
+
+    @Test
+    void movesFreelyInOpenSpace() {
+        double[] pos = {0.5, 0, 0.5};
+        CollisionHelper.moveWithCollision(pos, 3, 1, -2, WIDTH, HEIGHT, new BlockGridWorld(), STEP);
+
+        assertEquals(3.5, pos[0], EPSILON);
+        assertEquals(1.0, pos[1], EPSILON);
+        assertEquals(-1.5, pos[2], EPSILON);
+    }
+
+    @Test
+    void stopsInFrontOfWall() {
+        BlockGridWorld world = new BlockGridWorld().fill(5, -2, -2, 5, 4, 2);
+        double[] pos = {0.5, 0, 0.5};
+        CollisionHelper.moveWithCollision(pos, 6, 0, 0, WIDTH, HEIGHT, world, STEP);
+
+        assertTrue(pos[0] + WIDTH / 2 <= 5, "camera entered the wall at x=" + pos[0]);
+        assertTrue(pos[0] > 5 - WIDTH / 2 - STEP, "camera stopped early at x=" + pos[0]);
+    }
+
+    @Test
+    void slidesAlongWall() {
+        BlockGridWorld world = new BlockGridWorld().fill(2, -2, -8, 2, 4, 8);
+        double[] pos = {0.5, 0, 0.5};
+        CollisionHelper.moveWithCollision(pos, 3, 0, 3, WIDTH, HEIGHT, world, STEP);
+
+        assertTrue(pos[0] + WIDTH / 2 <= 2, "camera entered the wall at x=" + pos[0]);
+        assertEquals(3.5, pos[2], EPSILON);
+    }
+
+    @Test
+    void noFidelityLevelPassesThinWall() {
+        BlockGridWorld world = new BlockGridWorld().fill(3, -4, -4, 3, 4, 4);
+
+        for (FidelityLevel level : FidelityLevel.values()) {
+            // moveSpeed 2 x sprint 2.5, and the fastest speed the config allows
+            for (double speed : new double[] {5, 50}) {
+                double[] pos = {0.5, 0, 0.5};
+                for (int tick = 0; tick < 20; tick++) {
+                    CollisionHelper.moveWithCollision(pos, speed, 0, 0, WIDTH, HEIGHT, world,
+                            level.getMaxCollisionStep());
+                }
+
+                assertTrue(pos[0] + WIDTH / 2 <= 3,
+                        level + " at " + speed + " blocks/tick passed the wall to x=" + pos[0]);
+            }
+        }
+    }
+
+    @Test
+    void fidelityStepsStayBelowTunnellingLength() {
+        for (FidelityLevel level : FidelityLevel.values()) {
+            assertTrue(level.getMaxCollisionStep() <= CollisionHelper.getMaxSafeStep(WIDTH),
+                    level + " sub-step is long enough to skip a wall");
+        }
+    }
+
+    @Test
+    void moveWithCollisionDoesNotAllocate() {
+        BlockGridWorld world = new BlockGridWorld().fill(3, -2, -8, 3, 4, 8);
+        double[] pos = new double[3];
+
+        AllocationMeter.assertWithinBudget("CollisionHelper.moveWithCollision", 0, () -> {
+            pos[0] = 0.5;
+            pos[1] = 0;
+            pos[2] = 0.5;
+            CollisionHelper.moveWithCollision(pos, 4, 0.5, 2, WIDTH, HEIGHT, world, STEP);
+        });
+    }
+}
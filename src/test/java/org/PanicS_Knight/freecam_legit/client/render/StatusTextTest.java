@@ -0,0 +1,60 @@
+package org.PanicS_Knight.freecam_legit.client.render;
+
+import org.PanicS_Knight.freecam_legit.client.AllocationMeter;
+import org.PanicS_Knight.freecam_legit.client.camera.FidelityLevel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusTextTest {
+    // One status line string per re-format, nothing else
+    private static final long FORMAT_BUDGET_BYTES = 128;
+
+    @Test
+    void formatsDistance() {
+        StatusText status = new StatusText();
+        assertTrue(status.update(12.34, FidelityLevel.FULL));
+        assertEquals("§e§lFREECAM §r§7(12.3m)", status.get());
+
+        assertTrue(status.update(0.96, FidelityLevel.FULL));
+        assertEquals("§e§lFREECAM §r§7(1.0m)", status.get());
+    }
+
+    @Test
+    void showsDegradedLevel() {
+        StatusText status = new StatusText();
+        status.update(5, FidelityLevel.REDUCED);
+        assertEquals("§e§lFREECAM §r§7(5.0m) §8[REDUCED]", status.get());
+    }
+
+    @Test
+    void keepsTextWhileUnchanged() {
+        StatusText status = new StatusText();
+        status.update(7.01, FidelityLevel.FULL);
+        String text = status.get();
+
+        assertFalse(status.update(7.04, FidelityLevel.FULL));
+        assertSame(text, status.get());
+    }
+
+    @Test
+    void unchangedRefreshDoesNotAllocate() {
+        StatusText status = new StatusText();
+        status.update(3.2, FidelityLevel.FULL);
+
+        AllocationMeter.assertWithinBudget("FreecamHud status refresh (unchanged)", 0,
+                () -> status.update(3.2, FidelityLevel.FULL));
+    }
+
+    @Test
+    void reformatStaysWithinBudget() {
+        StatusText status = new StatusText();
+        int[] counter = new int[1];
+
+        AllocationMeter.assertWithinBudget("FreecamHud status refresh (changed)", FORMAT_BUDGET_BYTES,
+                () -> status.update((counter[0]++ & 1023) / 10.0, FidelityLevel.FULL));
+    }
+}
@@ -0,0 +1,116 @@
+package org.PanicS_Knight.freecam_legit.client.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CameraPathReaderTest {
+    // Two full blocks and a partial one
+    private static final int SAMPLES = CameraPathFormat.BLOCK_SAMPLES * 2 + 10;
+    private static final double EPSILON = 1.0E-3;
+
+    @Test
+    void readsBackRecordedPath() throws IOException {
+        Path path = record();
+        try {
+            CameraPathReader reader = new CameraPathReader(path);
+            for (int i = 0; i < SAMPLES; i++) {
+                assertTrue(reader.next());
+                assertEquals(i, reader.getTick());
+                assertEquals(i * 0.5, reader.getX(), EPSILON);
+            }
+            assertFalse(reader.next());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void rejectsNegativeBlockCount() throws IOException {
+        assertRejectsBlockCount(-1);
+    }
+
+    @Test
+    void rejectsIndexBeforeData() throws IOException {
+        assertRejectsBlockCount(1_000_000);
+    }
+
+    @Test
+    void rejectsBlockOutsideDataRegion() throws IOException {
+        Path path = record();
+        try {
+            long indexOffset = readLong(path, Files.size(path) - CameraPathFormat.FOOTER_SIZE);
+            patchLong(path, indexOffset + CameraPathFormat.INDEX_ENTRY_SIZE + 4, indexOffset);
+            assertThrows(IOException.class, () -> new CameraPathReader(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void rejectsBlocksOutOfTickOrder() throws IOException {
+        Path path = record();
+        try {
+            long indexOffset = readLong(path, Files.size(path) - CameraPathFormat.FOOTER_SIZE);
+            patchInt(path, indexOffset + CameraPathFormat.INDEX_ENTRY_SIZE * 2, 0);
+            assertThrows(IOException.class, () -> new CameraPathReader(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static void assertRejectsBlockCount(int blockCount) throws IOException {
+        Path path = record();
+        try {
+            // Move the index so the footer still adds up to the file size
+            long footer = Files.size(path) - CameraPathFormat.FOOTER_SIZE;
+            patchLong(path, footer, footer - (long) blockCount * CameraPathFormat.INDEX_ENTRY_SIZE);
+            patchInt(path, footer + 8, blockCount);
+            assertThrows(IOException.class, () -> new CameraPathReader(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static Path record() throws IOException {
+        Path path = Files.createTempFile("camera-path", ".fcp");
+        try (CameraPathWriter writer = new CameraPathWriter(path)) {
+            for (int i = 0; i < SAMPLES; i++) {
+                writer.write(i, i * 0.5, 64, -i, i, 0);
+            }
+        }
+        return path;
+    }
+
+    private static long readLong(Path path, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            channel.read(buffer, offset);
+            return buffer.getLong(0);
+        }
+    }
+
+    private static void patchInt(Path path, long offset, int value) throws IOException {
+        patch(path, offset, ByteBuffer.allocate(4).putInt(0, value));
+    }
+
+    private static void patchLong(Path path, long offset, long value) throws IOException {
+        patch(path, offset, ByteBuffer.allocate(8).putLong(0, value));
+    }
+
+    private static void patch(Path path, long offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+}